@@ -0,0 +1,68 @@
+package ezgames.immatcher.benchmarks;
+
+import static ezgames.immatcher.matchers.BasicMatchers.isEqualTo;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ezgames.immatcher.Assertions;
+import ezgames.immatcher.Matcher;
+
+/**
+ * Measures {@link Assertions#assertThat(Object, Matcher)} end to end, for
+ * passing assertions and for failing ones, which also pay for the message and
+ * the {@code AssertionError}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssertionsBenchmark
+{
+   private final String actual = "actual";
+   private final Matcher<String> matching = isEqualTo("actual");
+   private final Matcher<String> mismatching = isEqualTo("expected");
+
+   @Benchmark
+   public void assertThatPasses()
+   {
+      Assertions.assertThat(actual, matching);
+   }
+
+   @Benchmark
+   public AssertionError assertThatFails()
+   {
+      try
+      {
+         Assertions.assertThat(actual, mismatching);
+         return null;
+      }
+      catch(AssertionError error)
+      {
+         return error;
+      }
+   }
+
+   @Benchmark
+   public AssertionError assertThatFailsWithGivenMessage()
+   {
+      try
+      {
+         Assertions.assertThat(actual, mismatching, "didn't match");
+         return null;
+      }
+      catch(AssertionError error)
+      {
+         return error;
+      }
+   }
+}
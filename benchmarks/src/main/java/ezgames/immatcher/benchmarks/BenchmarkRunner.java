@@ -0,0 +1,33 @@
+package ezgames.immatcher.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks in this package with the GC profiler turned on, so each
+ * result comes with its allocation rate ({@code gc.alloc.rate.norm}, in bytes
+ * per operation) as well as its time.
+ * <p>
+ * Any arguments are used as regular expressions picking which benchmarks to
+ * run; with none, all of them are run.</p>
+ */
+public class BenchmarkRunner
+{
+   public static void main(String[] args) throws RunnerException
+   {
+      OptionsBuilder options = new OptionsBuilder();
+      if(args.length == 0)
+         options.include(BenchmarkRunner.class.getPackage().getName() + ".*");
+      for(String pattern : args)
+         options.include(pattern);
+
+      Options built = options
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+      new Runner(built).run();
+   }
+}
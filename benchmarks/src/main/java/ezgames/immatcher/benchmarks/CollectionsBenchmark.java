@@ -0,0 +1,105 @@
+package ezgames.immatcher.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ezgames.immatcher.Matcher;
+import ezgames.immatcher.Result;
+import ezgames.immatcher.matchers.collections.CollectionsMatchers;
+
+/**
+ * Measures the {@link CollectionsMatchers} on {@code List}s of sizes from 10
+ * to 1,000,000. The expected elements are a shuffled copy of the tested
+ * {@code List}; the failing variants test a {@code List} whose last element
+ * has been swapped for one that isn't expected, and render the failure
+ * message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionsBenchmark
+{
+   @Param({"10", "1000", "100000", "1000000"})
+   public int size;
+
+   private List<Integer> actual;
+   private List<Integer> mismatched;
+   private Matcher<Collection<?>> containsAll;
+   private Matcher<Collection<?>> containsOnly;
+   private Matcher<Collection<?>> contains;
+
+   @Setup
+   public void setUp()
+   {
+      actual = new ArrayList<>(size);
+      for(int i = 0; i < size; i++)
+         actual.add(i);
+      mismatched = new ArrayList<>(actual);
+      mismatched.set(size - 1, -1);
+
+      List<Integer> expected = new ArrayList<>(actual);
+      Collections.shuffle(expected, new Random(42));
+      containsAll = CollectionsMatchers.containsAll(expected);
+      containsOnly = CollectionsMatchers.containsOnly(expected);
+      contains = CollectionsMatchers.contains(size - 1);
+   }
+
+   @Benchmark
+   public Result containsAllPasses()
+   {
+      return containsAll.match(actual);
+   }
+
+   @Benchmark
+   public String containsAllFailsRendered()
+   {
+      return containsAll.match(mismatched).getActual();
+   }
+
+   @Benchmark
+   public Result containsOnlyPasses()
+   {
+      return containsOnly.match(actual);
+   }
+
+   @Benchmark
+   public String containsOnlyFailsRendered()
+   {
+      return containsOnly.match(mismatched).getActual();
+   }
+
+   @Benchmark
+   public Result containsPasses()
+   {
+      return contains.match(actual);
+   }
+
+   @Benchmark
+   public String containsFailsRendered()
+   {
+      return contains.match(mismatched).getActual();
+   }
+
+   @Benchmark
+   public String isEmptyFailsRendered()
+   {
+      return CollectionsMatchers.isEmpty.match(actual).getActual();
+   }
+}
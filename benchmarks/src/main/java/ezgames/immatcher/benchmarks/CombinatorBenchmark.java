@@ -0,0 +1,114 @@
+package ezgames.immatcher.benchmarks;
+
+import static ezgames.immatcher.Matchers.allOf;
+import static ezgames.immatcher.Matchers.and;
+import static ezgames.immatcher.Matchers.anyOf;
+import static ezgames.immatcher.matchers.BasicMatchers.isEqualTo;
+import static ezgames.immatcher.matchers.BasicMatchers.isNotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ezgames.immatcher.Matcher;
+import ezgames.immatcher.Result;
+
+/**
+ * Measures {@code allOf()} and {@code anyOf()} as the number of combined
+ * {@code Matcher}s grows, next to the same number of {@code Matcher}s chained
+ * together with {@code and()}.
+ * <p>
+ * The pass-heavy variants pass on every child; the fail-heavy ones are
+ * decided by the last child and render the failure message.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombinatorBenchmark
+{
+   @Param({"2", "10", "50"})
+   public int depth;
+
+   private final String actual = "actual";
+   private Matcher<String> allOfPassing;
+   private Matcher<String> allOfFailingLast;
+   private Matcher<String> anyOfPassingLast;
+   private Matcher<String> anyOfFailing;
+   private Matcher<String> chainedAndPassing;
+
+   @Setup
+   @SuppressWarnings("unchecked")
+   public void setUp()
+   {
+      Matcher<String> passing = isNotNull();
+      Matcher<String> failing = isEqualTo("expected");
+
+      Matcher<String>[] passes = (Matcher<String>[])new Matcher<?>[depth - 2];
+      Arrays.fill(passes, passing);
+      Matcher<String>[] failsBeforeLast = (Matcher<String>[])new Matcher<?>[depth - 2];
+      Arrays.fill(failsBeforeLast, failing);
+
+      allOfPassing = allOf(passing, passing, passes);
+      anyOfFailing = anyOf(failing, failing, failsBeforeLast);
+      Matcher<String>[] endsFailing = Arrays.copyOf(passes, depth - 2);
+      Matcher<String>[] endsPassing = Arrays.copyOf(failsBeforeLast, depth - 2);
+      if(depth > 2)
+      {
+         endsFailing[depth - 3] = failing;
+         endsPassing[depth - 3] = passing;
+         allOfFailingLast = allOf(passing, passing, endsFailing);
+         anyOfPassingLast = anyOf(failing, failing, endsPassing);
+      }
+      else
+      {
+         allOfFailingLast = allOf(passing, failing);
+         anyOfPassingLast = anyOf(failing, passing);
+      }
+
+      chainedAndPassing = passing;
+      for(int i = 1; i < depth; i++)
+         chainedAndPassing = and(chainedAndPassing, passing);
+   }
+
+   @Benchmark
+   public Result allOfPasses()
+   {
+      return allOfPassing.match(actual);
+   }
+
+   @Benchmark
+   public String allOfFailsRendered()
+   {
+      return allOfFailingLast.match(actual).getActual();
+   }
+
+   @Benchmark
+   public Result anyOfPasses()
+   {
+      return anyOfPassingLast.match(actual);
+   }
+
+   @Benchmark
+   public String anyOfFailsRendered()
+   {
+      return anyOfFailing.match(actual).getActual();
+   }
+
+   @Benchmark
+   public Result chainedAndPasses()
+   {
+      return chainedAndPassing.match(actual);
+   }
+}
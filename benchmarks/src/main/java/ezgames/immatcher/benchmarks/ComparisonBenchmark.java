@@ -0,0 +1,65 @@
+package ezgames.immatcher.benchmarks;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ezgames.immatcher.Matcher;
+import ezgames.immatcher.Result;
+import ezgames.immatcher.matchers.comparisons.ComparisonMatchers;
+
+/**
+ * Measures the matchers from {@link ComparisonMatchers}, using both natural
+ * ordering and a given {@code Comparator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComparisonBenchmark
+{
+   private final Integer small = 5;
+   private final Integer large = 500;
+   private final Matcher<Integer> isLessThan = ComparisonMatchers.isLessThan(100);
+   private final Matcher<Integer> isLessThanByComparator = ComparisonMatchers.isLessThan(100, Comparator.<Integer>naturalOrder());
+   private final Matcher<Integer> isEquivalentTo = ComparisonMatchers.isEquivalentTo(5);
+
+   @Benchmark
+   public Result isLessThanPasses()
+   {
+      return isLessThan.match(small);
+   }
+
+   @Benchmark
+   public Result isLessThanFails()
+   {
+      return isLessThan.match(large);
+   }
+
+   @Benchmark
+   public String isLessThanFailsRendered()
+   {
+      return isLessThan.match(large).getActual();
+   }
+
+   @Benchmark
+   public Result isLessThanByComparatorPasses()
+   {
+      return isLessThanByComparator.match(small);
+   }
+
+   @Benchmark
+   public Result isEquivalentToPasses()
+   {
+      return isEquivalentTo.match(small);
+   }
+}
@@ -0,0 +1,69 @@
+package ezgames.immatcher.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ezgames.immatcher.Matcher;
+import ezgames.immatcher.Result;
+import ezgames.immatcher.matchers.iterables.IterablesMatchers;
+
+/**
+ * Measures {@code hasSizeOf()} against a {@code Collection}, which knows its
+ * size, and against a plain {@code Iterable}, which has to be walked.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IterableSizeBenchmark
+{
+   @Param({"10", "1000", "100000", "1000000"})
+   public int size;
+
+   private List<Integer> list;
+   private Iterable<Integer> iterable;
+   private Matcher<Iterable<?>> hasSize;
+   private Matcher<Iterable<?>> hasSmallerSize;
+
+   @Setup
+   public void setUp()
+   {
+      list = new ArrayList<>(size);
+      for(int i = 0; i < size; i++)
+         list.add(i);
+      iterable = () -> list.iterator();
+      hasSize = IterablesMatchers.hasSizeOf(size);
+      hasSmallerSize = IterablesMatchers.hasSizeOf(size / 2);
+   }
+
+   @Benchmark
+   public Result collectionPasses()
+   {
+      return hasSize.match(list);
+   }
+
+   @Benchmark
+   public Result iterablePasses()
+   {
+      return hasSize.match(iterable);
+   }
+
+   @Benchmark
+   public Result iterableFails()
+   {
+      return hasSmallerSize.match(iterable);
+   }
+}
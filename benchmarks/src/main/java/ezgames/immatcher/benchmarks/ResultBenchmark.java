@@ -0,0 +1,61 @@
+package ezgames.immatcher.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ezgames.immatcher.Result;
+import ezgames.immatcher.ResultBuilder;
+
+/**
+ * Measures the different ways of making a {@link Result}: eagerly from
+ * {@code String}s, lazily from {@code Supplier}s, and from a reused
+ * {@link ResultBuilder}, plus what it costs to render a lazy message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultBenchmark
+{
+   private final int value = 42;
+   private final ResultBuilder reused = ResultBuilder.withMessages("was 42", "was not 42");
+
+   @Benchmark
+   public Result eagerPass()
+   {
+      return new Result(false, "was " + value, "was not " + value);
+   }
+
+   @Benchmark
+   public Result lazyPass()
+   {
+      return new Result(false, () -> "was " + value, () -> "was not " + value);
+   }
+
+   @Benchmark
+   public Result reusedBuilderPass()
+   {
+      return reused.pass();
+   }
+
+   @Benchmark
+   public Result newBuilderPass()
+   {
+      return ResultBuilder.withMessages("was 42", "was not 42").pass();
+   }
+
+   @Benchmark
+   public String lazyFailRendered()
+   {
+      return new Result(true, () -> "was " + value, () -> "was not " + value).getActual();
+   }
+}
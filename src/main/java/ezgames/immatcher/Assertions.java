@@ -1,5 +1,9 @@
 package ezgames.immatcher;
 
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
 /**
  * {@code Assertions} is a class with static methods for running the assertions
  * with {@link Matcher}s.
@@ -17,7 +21,9 @@ public class Assertions
     */
    public static <T> void assertThat(T actual, Matcher<? super T> matcher)
    {
+      long start = Instrumentation.start();
       Result result = matcher.match(actual);
+      Instrumentation.record(matcher, start, result);
       if(result.failed())
          throw new AssertionError(buildMessage(result));
    }
@@ -34,19 +40,214 @@ public class Assertions
     */
    public static <T> void assertThat(T actual, Matcher<? super T> matcher, String onFailureMessage)
    {
+      long start = Instrumentation.start();
       Result result = matcher.match(actual);
+      Instrumentation.record(matcher, start, result);
+      if(result.failed())
+         throw new AssertionError(onFailureMessage);
+   }
+
+   /**
+    * The same as {@link #assertThat(Object, Matcher)}, but for {@code int}s,
+    * which are checked without being boxed.
+    * @param actual the {@code int} being tested by the {@code Matcher}
+    * @param matcher the {@code IntMatcher} that will test `actual`
+    */
+   public static void assertThat(int actual, IntMatcher matcher)
+   {
+      long start = Instrumentation.start();
+      Result result = matcher.matchInt(actual);
+      Instrumentation.record(matcher, start, result);
+      if(result.failed())
+         throw new AssertionError(buildMessage(result));
+   }
+
+   /**
+    * The same as {@link #assertThat(int, IntMatcher)} except that it uses
+    * the provided `onFailureMessage` when throwing the {@code AssertionError}.
+    * @param actual the {@code int} being tested by the {@code Matcher}
+    * @param matcher the {@code IntMatcher} that will test `actual`
+    * @param onFailureMessage the message the {@code AssertionError} will contain
+    *                         on a failure
+    */
+   public static void assertThat(int actual, IntMatcher matcher, String onFailureMessage)
+   {
+      long start = Instrumentation.start();
+      Result result = matcher.matchInt(actual);
+      Instrumentation.record(matcher, start, result);
+      if(result.failed())
+         throw new AssertionError(onFailureMessage);
+   }
+
+   /**
+    * The same as {@link #assertThat(Object, Matcher)}, but for {@code long}s,
+    * which are checked without being boxed.
+    * @param actual the {@code long} being tested by the {@code Matcher}
+    * @param matcher the {@code LongMatcher} that will test `actual`
+    */
+   public static void assertThat(long actual, LongMatcher matcher)
+   {
+      long start = Instrumentation.start();
+      Result result = matcher.matchLong(actual);
+      Instrumentation.record(matcher, start, result);
+      if(result.failed())
+         throw new AssertionError(buildMessage(result));
+   }
+
+   /**
+    * The same as {@link #assertThat(long, LongMatcher)} except that it uses
+    * the provided `onFailureMessage` when throwing the {@code AssertionError}.
+    * @param actual the {@code long} being tested by the {@code Matcher}
+    * @param matcher the {@code LongMatcher} that will test `actual`
+    * @param onFailureMessage the message the {@code AssertionError} will contain
+    *                         on a failure
+    */
+   public static void assertThat(long actual, LongMatcher matcher, String onFailureMessage)
+   {
+      long start = Instrumentation.start();
+      Result result = matcher.matchLong(actual);
+      Instrumentation.record(matcher, start, result);
       if(result.failed())
          throw new AssertionError(onFailureMessage);
    }
 
+   /**
+    * The same as {@link #assertThat(Object, Matcher)}, but for {@code double}s,
+    * which are checked without being boxed.
+    * @param actual the {@code double} being tested by the {@code Matcher}
+    * @param matcher the {@code DoubleMatcher} that will test `actual`
+    */
+   public static void assertThat(double actual, DoubleMatcher matcher)
+   {
+      long start = Instrumentation.start();
+      Result result = matcher.matchDouble(actual);
+      Instrumentation.record(matcher, start, result);
+      if(result.failed())
+         throw new AssertionError(buildMessage(result));
+   }
+
+   /**
+    * The same as {@link #assertThat(double, DoubleMatcher)} except that it uses
+    * the provided `onFailureMessage` when throwing the {@code AssertionError}.
+    * @param actual the {@code double} being tested by the {@code Matcher}
+    * @param matcher the {@code DoubleMatcher} that will test `actual`
+    * @param onFailureMessage the message the {@code AssertionError} will contain
+    *                         on a failure
+    */
+   public static void assertThat(double actual, DoubleMatcher matcher, String onFailureMessage)
+   {
+      long start = Instrumentation.start();
+      Result result = matcher.matchDouble(actual);
+      Instrumentation.record(matcher, start, result);
+      if(result.failed())
+         throw new AssertionError(onFailureMessage);
+   }
+
+   /**
+    * Checks every value in `actuals` against the {@link Matcher}, returning a
+    * {@link BatchReport} of how many failed along with the first
+    * {@link BatchReport#DEFAULT_MAX_REPORTED} failures. Unlike
+    * {@code assertThat()}, it doesn't stop at the first failure.
+    * @param actuals the objects being tested by the {@code Matcher}
+    * @param matcher the {@code Matcher} that will test each of `actuals`
+    * @param <T> the type of the objects being tested
+    * @return the report of the whole batch
+    */
+   public static <T> BatchReport checkAll(Iterable<? extends T> actuals, Matcher<? super T> matcher)
+   {
+      return checkAll(actuals, matcher, BatchReport.DEFAULT_MAX_REPORTED);
+   }
+
+   /**
+    * The same as {@link #checkAll(Iterable, Matcher)}, but keeps up to
+    * `maxReported` failures in the report.
+    * @param actuals the objects being tested by the {@code Matcher}
+    * @param matcher the {@code Matcher} that will test each of `actuals`
+    * @param maxReported the most failing {@code Result}s to keep
+    * @param <T> the type of the objects being tested
+    * @return the report of the whole batch
+    */
+   public static <T> BatchReport checkAll(Iterable<? extends T> actuals, Matcher<? super T> matcher, int maxReported)
+   {
+      BatchCheck<T> check = new BatchCheck<>(matcher, maxReported, 0);
+      actuals.forEach(check);
+      return check.report();
+   }
+
+   /**
+    * The same as {@link #checkAll(Iterable, Matcher)}, but for a
+    * {@code Stream}, which is consumed.
+    * <p>
+    * If the {@code Stream} is parallel and its size is known up front (as it
+    * is for a {@code parallelStream()} of a {@code List} or an array), the
+    * values are checked in parallel on the common {@code ForkJoinPool}. The
+    * report is the same either way: the failures kept are always the ones
+    * with the lowest indexes.</p>
+    * @param actuals the objects being tested by the {@code Matcher}
+    * @param matcher the {@code Matcher} that will test each of `actuals`
+    * @param <T> the type of the objects being tested
+    * @return the report of the whole batch
+    */
+   public static <T> BatchReport checkAll(Stream<? extends T> actuals, Matcher<? super T> matcher)
+   {
+      return checkAll(actuals, matcher, BatchReport.DEFAULT_MAX_REPORTED);
+   }
+
+   /**
+    * The same as {@link #checkAll(Stream, Matcher)}, but keeps up to
+    * `maxReported` failures in the report.
+    * @param actuals the objects being tested by the {@code Matcher}
+    * @param matcher the {@code Matcher} that will test each of `actuals`
+    * @param maxReported the most failing {@code Result}s to keep
+    * @param <T> the type of the objects being tested
+    * @return the report of the whole batch
+    */
+   public static <T> BatchReport checkAll(Stream<? extends T> actuals, Matcher<? super T> matcher, int maxReported)
+   {
+      boolean parallel = actuals.isParallel();
+      Spliterator<? extends T> elements = actuals.spliterator();
+      if(parallel && elements.hasCharacteristics(Spliterator.SUBSIZED))
+         return ForkJoinPool.commonPool().invoke(new BatchCheck.Task<T>(elements, matcher, maxReported, 0)).report();
+
+      BatchCheck<T> check = new BatchCheck<>(matcher, maxReported, 0);
+      elements.forEachRemaining(check);
+      return check.report();
+   }
+
+   /**
+    * Checks every value in `actuals` against the {@link Matcher}, then throws
+    * one {@code AssertionError} describing the failures if there were any.
+    * @param actuals the objects being tested by the {@code Matcher}
+    * @param matcher the {@code Matcher} that will test each of `actuals`
+    * @param <T> the type of the objects being tested
+    */
+   public static <T> void assertAll(Iterable<? extends T> actuals, Matcher<? super T> matcher)
+   {
+      BatchReport report = checkAll(actuals, matcher);
+      if(report.failed())
+         throw new AssertionError(report.toString());
+   }
+
+   /**
+    * Renders the message for a failing {@code Result} in one pass, into the
+    * thread's reusable message buffer.
+    */
    static String buildMessage(Result result)
    {
-      StringBuilder builder = new StringBuilder();
+      return MessageBuffer.render("", out -> appendMessage(out, result));
+   }
+
+   /**
+    * Appends the message for a failing {@code Result} onto `builder`, so that
+    * messages for many {@code Result}s can share one builder.
+    */
+   static StringBuilder appendMessage(StringBuilder builder, Result result)
+   {
       builder.append("Expected that it:\n");
-      builder.append(result.getExpected());
+      result.appendExpected(builder);
       builder.append("\nbut it:\n");
-      builder.append(result.getActual());
-      return builder.toString();
+      result.appendActual(builder);
+      return builder;
    }
 
 
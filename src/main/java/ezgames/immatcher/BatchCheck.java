@@ -0,0 +1,122 @@
+package ezgames.immatcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * {@code BatchCheck} runs a {@link Matcher} over a run of consecutive values,
+ * tallying the failures for a {@link BatchReport}. Passing values only cost
+ * the match and a couple of increments.
+ * <p>
+ * Checks of neighbouring runs can be merged, which is how {@link Task} checks
+ * a batch in parallel.</p>
+ */
+final class BatchCheck<T> implements Consumer<T>
+{
+   BatchCheck(Matcher<? super T> matcher, int maxReported, long firstIndex)
+   {
+      this.matcher = matcher;
+      this.maxReported = maxReported;
+      this.firstIndex = firstIndex;
+   }
+
+   @Override
+   public void accept(T actual)
+   {
+      long start = Instrumentation.start();
+      Result result = matcher.match(actual);
+      Instrumentation.record(matcher, start, result);
+      if(result.failed())
+      {
+         failureCount++;
+         if(failures.size() < maxReported)
+         {
+            if(failures.isEmpty())
+               failures = new ArrayList<>(Math.min(maxReported, 16));
+            failures.add(new BatchReport.Failure(firstIndex + checkedCount, result));
+         }
+      }
+      checkedCount++;
+   }
+
+   /**
+    * Combines this check with the check of the run right after it.
+    * @return this check, now covering both runs
+    */
+   BatchCheck<T> merge(BatchCheck<T> next)
+   {
+      checkedCount += next.checkedCount;
+      failureCount += next.failureCount;
+      for(BatchReport.Failure failure : next.failures)
+      {
+         if(failures.size() >= maxReported)
+            break;
+         if(failures.isEmpty())
+            failures = new ArrayList<>(Math.min(maxReported, 16));
+         failures.add(failure);
+      }
+      return this;
+   }
+
+   BatchReport report()
+   {
+      return new BatchReport(checkedCount, failureCount, failures);
+   }
+
+   private final Matcher<? super T> matcher;
+   private final int maxReported;
+   private final long firstIndex;
+   private long checkedCount = 0;
+   private long failureCount = 0;
+   private List<BatchReport.Failure> failures = Collections.emptyList();
+
+   /**
+    * Checks the values of a {@code Spliterator} on a {@code ForkJoinPool}.
+    * <p>
+    * The {@code Spliterator} has to be {@code SUBSIZED}, since the size of
+    * each split-off prefix is what tells the rest of the run where its indexes
+    * start.</p>
+    */
+   static final class Task<T> extends RecursiveTask<BatchCheck<T>>
+   {
+      Task(Spliterator<? extends T> elements, Matcher<? super T> matcher, int maxReported, long firstIndex)
+      {
+         this.elements = elements;
+         this.matcher = matcher;
+         this.maxReported = maxReported;
+         this.firstIndex = firstIndex;
+      }
+
+      @Override
+      protected BatchCheck<T> compute()
+      {
+         if(elements.estimateSize() > SEQUENTIAL_THRESHOLD)
+         {
+            Spliterator<? extends T> prefix = elements.trySplit();
+            if(prefix != null)
+            {
+               Task<T> first = new Task<>(prefix, matcher, maxReported, firstIndex);
+               Task<T> rest = new Task<>(elements, matcher, maxReported, firstIndex + prefix.getExactSizeIfKnown());
+               first.fork();
+               BatchCheck<T> restCheck = rest.compute();
+               return first.join().merge(restCheck);
+            }
+         }
+         BatchCheck<T> check = new BatchCheck<>(matcher, maxReported, firstIndex);
+         elements.forEachRemaining(check);
+         return check;
+      }
+
+      private final Spliterator<? extends T> elements;
+      private final Matcher<? super T> matcher;
+      private final int maxReported;
+      private final long firstIndex;
+
+      private static final long SEQUENTIAL_THRESHOLD = 1024;
+      private static final long serialVersionUID = 1L;
+   }
+}
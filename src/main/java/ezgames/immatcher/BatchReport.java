@@ -0,0 +1,123 @@
+package ezgames.immatcher;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code BatchReport} is the outcome of checking a whole batch of values
+ * against one {@link Matcher}, as done by
+ * {@link Assertions#checkAll(Iterable, Matcher)}.
+ * <p>
+ * It counts every value that was checked and every one that failed, but only
+ * keeps the {@link Result}s of the first few failures (by position in the
+ * batch), so that a batch of millions of bad records doesn't keep millions of
+ * {@code Result}s around.</p>
+ */
+public final class BatchReport
+{
+   /**
+    * How many failures are kept when a limit isn't given
+    */
+   public static final int DEFAULT_MAX_REPORTED = 10;
+
+   /**
+    * Returns whether any of the values failed
+    * @return whether any of the values failed
+    */
+   public boolean failed()
+   {
+      return failureCount > 0;
+   }
+
+   /**
+    * Returns how many values were checked
+    * @return how many values were checked
+    */
+   public long getCheckedCount()
+   {
+      return checkedCount;
+   }
+
+   /**
+    * Returns how many values failed
+    * @return how many values failed
+    */
+   public long getFailureCount()
+   {
+      return failureCount;
+   }
+
+   /**
+    * Returns the first failures in the batch, in order of their index. There
+    * may have been more failures than this; see {@link #getFailureCount()}.
+    * @return the first failures in the batch
+    */
+   public List<Failure> getFailures()
+   {
+      return failures;
+   }
+
+   /**
+    * Returns a message describing every kept failure, like the one
+    * {@link Assertions#assertThat(Object, Matcher)} would give for each.
+    */
+   @Override
+   public String toString()
+   {
+      StringBuilder builder = new StringBuilder();
+      builder.append(failureCount).append(" of ").append(checkedCount).append(" values failed");
+      for(Failure failure : failures)
+      {
+         builder.append("\n[").append(failure.getIndex()).append("] ");
+         Assertions.appendMessage(builder, failure.getResult());
+      }
+      if(failureCount > failures.size())
+         builder.append("\n...and ").append(failureCount - failures.size()).append(" more");
+      return builder.toString();
+   }
+
+   BatchReport(long checkedCount, long failureCount, List<Failure> failures)
+   {
+      this.checkedCount = checkedCount;
+      this.failureCount = failureCount;
+      this.failures = Collections.unmodifiableList(failures);
+   }
+
+   private final long checkedCount;
+   private final long failureCount;
+   private final List<Failure> failures;
+
+   /**
+    * A failing {@link Result}, along with the index of the value that
+    * produced it.
+    */
+   public static final class Failure
+   {
+      /**
+       * Returns the index of the failing value within the batch
+       * @return the index of the failing value within the batch
+       */
+      public long getIndex()
+      {
+         return index;
+      }
+
+      /**
+       * Returns the failing {@code Result}
+       * @return the failing {@code Result}
+       */
+      public Result getResult()
+      {
+         return result;
+      }
+
+      Failure(long index, Result result)
+      {
+         this.index = index;
+         this.result = result;
+      }
+
+      private final long index;
+      private final Result result;
+   }
+}
@@ -0,0 +1,352 @@
+package ezgames.immatcher;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code CachedMatcher} wraps a {@link Matcher} and remembers the
+ * {@link Result}s it gave, so that matching the same object again doesn't run
+ * the wrapped {@code Matcher} again. It's meant for expensive
+ * {@code Matcher}s that get applied to the same objects many times, and
+ * relies on the wrapped {@code Matcher} giving the same {@code Result} for the
+ * same object every time, which is the norm for immutable matchers.
+ * <p>
+ * Objects are looked up by equality, or by identity if asked for. The cache
+ * holds at most a set number of objects. It's split into segments, each with
+ * its own lock, so that threads matching different objects rarely wait on
+ * each other, and the wrapped {@code Matcher} is never run while a lock is
+ * held. The maximum size is shared out between the segments, and each one
+ * throws out its own least recently used object once it's full, so what gets
+ * thrown out is only roughly the least recently used overall.</p>
+ * <p>
+ * With weak keys, the cache doesn't keep the objects themselves from being
+ * garbage collected; their entries are dropped once they are. Since a
+ * {@code Result}'s lazy messages may hold onto the object, cached
+ * {@code Result}s are rendered up front in this mode.</p>
+ */
+public final class CachedMatcher<T> implements Matcher<T>
+{
+   /**
+    * How many objects a cache holds when a size isn't given
+    */
+   public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+   /**
+    * Returns a {@code CachedMatcher} that looks objects up by equality and
+    * holds up to {@link #DEFAULT_MAXIMUM_SIZE} of them.
+    * @param matcher the {@code Matcher} to cache the {@code Result}s of
+    * @param <T> the type of object the {@code Matcher} tests
+    * @return the caching {@code Matcher}
+    */
+   public static <T> CachedMatcher<T> cached(Matcher<T> matcher)
+   {
+      return new CachedMatcher<>(matcher, DEFAULT_MAXIMUM_SIZE, false, false);
+   }
+
+   /**
+    * Returns a {@code CachedMatcher} that looks objects up by equality.
+    * @param matcher the {@code Matcher} to cache the {@code Result}s of
+    * @param maximumSize the most objects to hold {@code Result}s for
+    * @param <T> the type of object the {@code Matcher} tests
+    * @return the caching {@code Matcher}
+    */
+   public static <T> CachedMatcher<T> cached(Matcher<T> matcher, int maximumSize)
+   {
+      return new CachedMatcher<>(matcher, maximumSize, false, false);
+   }
+
+   /**
+    * Returns a {@code CachedMatcher}.
+    * @param matcher the {@code Matcher} to cache the {@code Result}s of
+    * @param maximumSize the most objects to hold {@code Result}s for
+    * @param byIdentity whether to look objects up by identity instead of by
+    *                   equality
+    * @param weakKeys whether to let the objects be garbage collected while
+    *                 they're in the cache
+    * @param <T> the type of object the {@code Matcher} tests
+    * @return the caching {@code Matcher}
+    */
+   public static <T> CachedMatcher<T> cached(Matcher<T> matcher, int maximumSize, boolean byIdentity, boolean weakKeys)
+   {
+      return new CachedMatcher<>(matcher, maximumSize, byIdentity, weakKeys);
+   }
+
+   @Override
+   public Result match(T actual)
+   {
+      return lookUp(actual, true);
+   }
+
+   @Override
+   public Result notMatches(T actual)
+   {
+      return lookUp(actual, false);
+   }
+
+   /**
+    * Returns how many times a {@code Result} was found in the cache
+    * @return how many times a {@code Result} was found in the cache
+    */
+   public long getHitCount()
+   {
+      return hits.sum();
+   }
+
+   /**
+    * Returns how many times the wrapped {@code Matcher} had to be run
+    * @return how many times the wrapped {@code Matcher} had to be run
+    */
+   public long getMissCount()
+   {
+      return misses.sum();
+   }
+
+   /**
+    * Returns how many objects currently have {@code Result}s in the cache
+    * @return how many objects are in the cache
+    */
+   public int size()
+   {
+      int size = 0;
+      for(Segment segment : segments)
+         size += segment.size();
+      return size;
+   }
+
+   /**
+    * Throws away every cached {@code Result}.
+    */
+   public void clear()
+   {
+      for(Segment segment : segments)
+         segment.clear();
+   }
+
+   private CachedMatcher(Matcher<T> matcher, int maximumSize, boolean byIdentity, boolean weakKeys)
+   {
+      if(maximumSize < 1)
+         throw new IllegalArgumentException("maximumSize must be at least 1, but was " + maximumSize);
+      this.matcher = matcher;
+      this.byIdentity = byIdentity;
+      this.weakKeys = weakKeys;
+      int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(maximumSize));
+      // the first (maximumSize % segmentCount) segments take one extra, so
+      // the capacities add up to exactly maximumSize
+      int perSegment = maximumSize / segmentCount;
+      int extra = maximumSize % segmentCount;
+      this.segments = new Segment[segmentCount];
+      for(int i = 0; i < segmentCount; i++)
+         segments[i] = new Segment(i < extra ? perSegment + 1 : perSegment);
+   }
+
+   private Result lookUp(T actual, boolean matching)
+   {
+      int hash = hashOf(actual);
+      Segment segment = segments[(hash ^ hash >>> 16) & (segments.length - 1)];
+      Result cached = segment.get(new Lookup(actual, hash, byIdentity), matching);
+      if(cached != null)
+      {
+         hits.increment();
+         return cached;
+      }
+
+      misses.increment();
+      Result result = matching ? matcher.match(actual) : matcher.notMatches(actual);
+      if(weakKeys)
+         result = detached(result);
+      segment.put(keyFor(actual, hash, segment), matching, result);
+      return result;
+   }
+
+   private int hashOf(Object actual)
+   {
+      if(actual == null)
+         return 0;
+      return byIdentity ? System.identityHashCode(actual) : actual.hashCode();
+   }
+
+   private Object keyFor(Object actual, int hash, Segment segment)
+   {
+      if(actual == null)
+         return NULL_KEY;
+      if(weakKeys)
+         return new WeakKey(actual, hash, byIdentity, segment.queue);
+      return byIdentity ? new Lookup(actual, hash, true) : actual;
+   }
+
+   /**
+    * Returns a copy of the {@code Result} with its messages rendered, so that
+    * it no longer holds onto anything its lazy messages referred to.
+    */
+   private static Result detached(Result result)
+   {
+      return new Result(result.failed(), result.getExpected(), result.getOnFailure(), result.getActual());
+   }
+
+   private static final int MAX_SEGMENTS = 16;
+   private static final Object NULL_KEY = new Object();
+
+   private final Matcher<T> matcher;
+   private final boolean byIdentity;
+   private final boolean weakKeys;
+   private final Segment[] segments;
+   private final LongAdder hits = new LongAdder();
+   private final LongAdder misses = new LongAdder();
+
+   /**
+    * The stored {@code Result}s for one object. Either may still be missing,
+    * since `match()` and `notMatches()` are cached separately.
+    */
+   private static final class Stored
+   {
+      Result matched;
+      Result notMatched;
+   }
+
+   /**
+    * One lock's worth of the cache: a {@code LinkedHashMap} in access order,
+    * which throws out its least recently used entry once it's full.
+    */
+   private static final class Segment
+   {
+      Segment(int capacity)
+      {
+         this.entries = new LinkedHashMap<Object, Stored>(16, 0.75f, true)
+         {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Stored> eldest)
+            {
+               return size() > capacity;
+            }
+         };
+      }
+
+      synchronized Result get(Lookup key, boolean matching)
+      {
+         Stored stored = entries.get(key.actual == null ? NULL_KEY : key);
+         if(stored == null)
+            return null;
+         return matching ? stored.matched : stored.notMatched;
+      }
+
+      synchronized void put(Object key, boolean matching, Result result)
+      {
+         expungeCollected();
+         Stored stored = entries.get(key);
+         if(stored == null)
+         {
+            stored = new Stored();
+            entries.put(key, stored);
+         }
+         if(matching)
+            stored.matched = result;
+         else
+            stored.notMatched = result;
+      }
+
+      synchronized int size()
+      {
+         expungeCollected();
+         return entries.size();
+      }
+
+      synchronized void clear()
+      {
+         entries.clear();
+         while(queue.poll() != null);
+      }
+
+      private void expungeCollected()
+      {
+         Reference<?> collected;
+         while((collected = queue.poll()) != null)
+            entries.remove(collected);
+      }
+
+      private final LinkedHashMap<Object, Stored> entries;
+      private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+   }
+
+   /**
+    * The key an object is looked up by, which is also the stored key when
+    * looking up by identity. It's equal to a stored key for the same object,
+    * whichever kind of key that is.
+    */
+   private static final class Lookup
+   {
+      Lookup(Object actual, int hash, boolean byIdentity)
+      {
+         this.actual = actual;
+         this.hash = hash;
+         this.byIdentity = byIdentity;
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return hash;
+      }
+
+      @Override
+      public boolean equals(Object other)
+      {
+         if(other instanceof Lookup)
+            return matches(((Lookup)other).actual);
+         if(other instanceof WeakKey)
+            return matches(((WeakKey)other).get());
+         return !byIdentity && actual.equals(other);
+      }
+
+      private boolean matches(Object other)
+      {
+         return byIdentity ? actual == other : actual.equals(other);
+      }
+
+      private final Object actual;
+      private final int hash;
+      private final boolean byIdentity;
+   }
+
+   /**
+    * A stored key that doesn't keep its object from being collected. Once
+    * it's collected, the key is only equal to itself, and it gets removed
+    * the next time its segment is written to.
+    */
+   private static final class WeakKey extends WeakReference<Object>
+   {
+      WeakKey(Object actual, int hash, boolean byIdentity, ReferenceQueue<Object> queue)
+      {
+         super(actual, queue);
+         this.hash = hash;
+         this.byIdentity = byIdentity;
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return hash;
+      }
+
+      @Override
+      public boolean equals(Object other)
+      {
+         if(other == this)
+            return true;
+         Object actual = get();
+         if(actual == null)
+            return false;
+         if(other instanceof Lookup)
+            other = ((Lookup)other).actual;
+         else if(other instanceof WeakKey)
+            other = ((WeakKey)other).get();
+         return byIdentity ? actual == other : actual.equals(other);
+      }
+
+      private final int hash;
+      private final boolean byIdentity;
+   }
+}
@@ -0,0 +1,44 @@
+package ezgames.immatcher;
+
+/**
+ * {@code Costed} is implemented by {@link Matcher}s that can say roughly how
+ * expensive they are to run. {@link Matchers#optimize(Matcher)} uses it to run
+ * the cheap children of an {@code allOf()} or {@code anyOf()} before the
+ * expensive ones.
+ * <p>
+ * Costs are rough, average nanoseconds per match, so that they can be
+ * compared with the times that {@link Instrumentation} observes. They don't
+ * need to be accurate; they only need to put {@code Matcher}s in a sensible
+ * order.</p>
+ */
+public interface Costed
+{
+   /**
+    * The cost of a check that doesn't depend on the size of the object, like
+    * a null or size check
+    */
+   long CONSTANT = 10;
+
+   /**
+    * The cost assumed for a {@code Matcher} that hasn't said what it costs
+    * and hasn't been observed
+    */
+   long UNKNOWN = 100;
+
+   /**
+    * The cost of a check that makes a pass over a collection or array
+    */
+   long LINEAR = 1_000;
+
+   /**
+    * The cost of a check that reads from a file
+    */
+   long IO = 100_000;
+
+   /**
+    * Returns the rough cost, in nanoseconds, of one match by this
+    * {@code Matcher}
+    * @return the rough cost of one match
+    */
+   long getCost();
+}
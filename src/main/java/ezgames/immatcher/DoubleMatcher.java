@@ -0,0 +1,39 @@
+package ezgames.immatcher;
+
+/**
+ * {@code DoubleMatcher} is a {@link Matcher} specialized for {@code double}s, so that
+ * checking a {@code double} doesn't have to box it.
+ * <p>
+ * It's still a {@code Matcher<Double>}, so it can be used anywhere a regular
+ * {@code Matcher} can, such as in {@code allOf()}; boxed values are simply
+ * unboxed and handed to {@link #matchDouble(double)}. Use
+ * {@link Assertions#assertThat(double, DoubleMatcher)} to keep the value unboxed
+ * the whole way through.</p>
+ */
+public interface DoubleMatcher extends Matcher<Double>
+{
+   /**
+    * Checks that {@code actual} matches what this {@code Matcher} is meant to
+    * check, then returns a corresponding {@link Result}.
+    * @param actual the {@code double} being tested
+    * @return the {@code Result} of the test
+    */
+   Result matchDouble(double actual);
+
+   /**
+    * The inverse of {@link #matchDouble(double)}.
+    * @param actual the {@code double} being tested
+    * @return the {@code Result} of the inverted test
+    */
+   Result notMatchesDouble(double actual);
+
+   default Result match(Double actual)
+   {
+      return matchDouble(actual);
+   }
+
+   default Result notMatches(Double actual)
+   {
+      return notMatchesDouble(actual);
+   }
+}
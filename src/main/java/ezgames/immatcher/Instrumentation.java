@@ -0,0 +1,249 @@
+package ezgames.immatcher;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code Instrumentation} records how often each class of {@link Matcher} is
+ * run by the assertions, how often it passes or fails, and how long it takes,
+ * so that it's easy to see which matchers dominate a test run.
+ * <p>
+ * It's off unless the JVM is started with
+ * {@code -Dimmatcher.instrumentation=true}. The flag is read once into a
+ * {@code static final} field, so when it's off, the checks of it are compiled
+ * away and nothing is timed, recorded or allocated. When it's on, the counters
+ * are {@code LongAdder}s, so recording never takes a lock, and the statistics
+ * are written as JSON when the JVM shuts down: to the file named by
+ * {@code -Dimmatcher.instrumentation.file}, or to standard error.</p>
+ * <p>
+ * The assertions in {@link Assertions} and {@link SoftAssertions} are
+ * recorded under the class of the outermost {@code Matcher}. To also record
+ * the {@code Matcher}s nested inside a combined one, wrap them with
+ * {@link #instrument(Matcher)}.</p>
+ */
+public final class Instrumentation
+{
+   /**
+    * Whether instrumentation was turned on for this JVM
+    */
+   public static final boolean ENABLED = Boolean.getBoolean("immatcher.instrumentation");
+
+   /**
+    * Returns a {@code Matcher} that records the statistics of every
+    * `match()` and `notMatches()` of `matcher` under its class. When
+    * instrumentation is off, this returns `matcher` itself.
+    * @param matcher the {@code Matcher} to record statistics for
+    * @param <T> the type of object the {@code Matcher} tests
+    * @return the instrumented {@code Matcher}
+    */
+   public static <T> Matcher<T> instrument(Matcher<T> matcher)
+   {
+      if(!ENABLED || matcher instanceof Instrumented)
+         return matcher;
+      return new Instrumented<>(matcher);
+   }
+
+   /**
+    * Returns the statistics recorded so far, one per class of {@code Matcher},
+    * with the most total time first. This is empty when instrumentation is
+    * off.
+    * @return the statistics recorded so far
+    */
+   public static List<MatcherStatistics> snapshot()
+   {
+      return REGISTRY.snapshot();
+   }
+
+   /**
+    * Throws away the statistics recorded so far.
+    */
+   public static void reset()
+   {
+      REGISTRY.reset();
+   }
+
+   /**
+    * Returns the time to pass to {@link #record(Object, long, Result)} once the
+    * match is done, or {@code 0} when instrumentation is off.
+    */
+   static long start()
+   {
+      return ENABLED ? System.nanoTime() : 0;
+   }
+
+   /**
+    * Records a match by `matcher` that began at `start` and produced `result`.
+    */
+   static void record(Object matcher, long start, Result result)
+   {
+      if(ENABLED)
+         REGISTRY.record(matcher.getClass(), System.nanoTime() - start, result.failed());
+   }
+
+   /**
+    * Returns the average nanoseconds per match recorded for the class of
+    * `matcher` (or of the {@code Matcher} it instruments), or -1 if none have
+    * been recorded.
+    */
+   static long observedCost(Object matcher)
+   {
+      if(!ENABLED)
+         return -1;
+      if(matcher instanceof Instrumented)
+         matcher = ((Instrumented<?>)matcher).matcher;
+      return REGISTRY.meanNanos(matcher.getClass());
+   }
+
+   private Instrumentation() {}
+
+   private static final Registry REGISTRY = new Registry();
+
+   static
+   {
+      if(ENABLED)
+         Runtime.getRuntime().addShutdownHook(new Thread(Instrumentation::dump, "immatcher-instrumentation"));
+   }
+
+   private static void dump()
+   {
+      String json = toJson(snapshot());
+      String file = System.getProperty("immatcher.instrumentation.file");
+      if(file == null)
+      {
+         System.err.println(json);
+         return;
+      }
+      try(Writer writer = Files.newBufferedWriter(Paths.get(file), StandardCharsets.UTF_8))
+      {
+         writer.write(json);
+      }
+      catch(IOException e)
+      {
+         System.err.println("Could not write matcher statistics to " + file + ": " + e);
+      }
+   }
+
+   /**
+    * Formats the statistics as a JSON object with a "matchers" array.
+    */
+   static String toJson(List<MatcherStatistics> statistics)
+   {
+      StringBuilder builder = new StringBuilder("{\"matchers\":[");
+      for(int i = 0; i < statistics.size(); i++)
+      {
+         if(i > 0)
+            builder.append(',');
+         statistics.get(i).appendJson(builder);
+      }
+      return builder.append("]}").toString();
+   }
+
+   /**
+    * The live counters for every class of {@code Matcher}. Looking up the
+    * counters of a class that's been seen before doesn't lock.
+    */
+   static final class Registry
+   {
+      void record(Class<?> matcherClass, long nanos, boolean failed)
+      {
+         Counters entry = counters.get(matcherClass);
+         if(entry == null)
+            entry = counters.computeIfAbsent(matcherClass, Counters::new);
+         entry.record(nanos, failed);
+      }
+
+      long meanNanos(Class<?> matcherClass)
+      {
+         Counters entry = counters.get(matcherClass);
+         return entry == null ? -1 : entry.meanNanos();
+      }
+
+      List<MatcherStatistics> snapshot()
+      {
+         List<MatcherStatistics> statistics = new ArrayList<>(counters.size());
+         for(Counters each : counters.values())
+            statistics.add(each.snapshot());
+         statistics.sort((a, b) -> Long.compare(b.getTotalNanos(), a.getTotalNanos()));
+         return statistics;
+      }
+
+      void reset()
+      {
+         counters.clear();
+      }
+
+      private final ConcurrentHashMap<Class<?>, Counters> counters = new ConcurrentHashMap<>();
+   }
+
+   private static final class Counters
+   {
+      Counters(Class<?> matcherClass)
+      {
+         this.matcherClass = matcherClass;
+         for(int i = 0; i < histogram.length; i++)
+            histogram[i] = new LongAdder();
+      }
+
+      void record(long nanos, boolean failed)
+      {
+         (failed ? failures : passes).increment();
+         totalNanos.add(nanos);
+         histogram[MatcherStatistics.bucketOf(nanos)].increment();
+      }
+
+      long meanNanos()
+      {
+         long count = passes.sum() + failures.sum();
+         return count == 0 ? -1 : totalNanos.sum() / count;
+      }
+
+      MatcherStatistics snapshot()
+      {
+         long[] buckets = new long[histogram.length];
+         for(int i = 0; i < buckets.length; i++)
+            buckets[i] = histogram[i].sum();
+         return new MatcherStatistics(matcherClass, passes.sum(), failures.sum(), totalNanos.sum(), buckets);
+      }
+
+      private final Class<?> matcherClass;
+      private final LongAdder passes = new LongAdder();
+      private final LongAdder failures = new LongAdder();
+      private final LongAdder totalNanos = new LongAdder();
+      private final LongAdder[] histogram = new LongAdder[MatcherStatistics.BUCKETS];
+   }
+
+   private static final class Instrumented<T> implements Matcher<T>
+   {
+      Instrumented(Matcher<T> matcher)
+      {
+         this.matcher = matcher;
+      }
+
+      @Override
+      public Result match(T actual)
+      {
+         long start = System.nanoTime();
+         Result result = matcher.match(actual);
+         REGISTRY.record(matcher.getClass(), System.nanoTime() - start, result.failed());
+         return result;
+      }
+
+      @Override
+      public Result notMatches(T actual)
+      {
+         long start = System.nanoTime();
+         Result result = matcher.notMatches(actual);
+         REGISTRY.record(matcher.getClass(), System.nanoTime() - start, result.failed());
+         return result;
+      }
+
+      private final Matcher<T> matcher;
+   }
+}
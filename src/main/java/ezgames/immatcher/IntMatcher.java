@@ -0,0 +1,39 @@
+package ezgames.immatcher;
+
+/**
+ * {@code IntMatcher} is a {@link Matcher} specialized for {@code int}s, so that
+ * checking an {@code int} doesn't have to box it.
+ * <p>
+ * It's still a {@code Matcher<Integer>}, so it can be used anywhere a regular
+ * {@code Matcher} can, such as in {@code allOf()}; boxed values are simply
+ * unboxed and handed to {@link #matchInt(int)}. Use
+ * {@link Assertions#assertThat(int, IntMatcher)} to keep the value unboxed
+ * the whole way through.</p>
+ */
+public interface IntMatcher extends Matcher<Integer>
+{
+   /**
+    * Checks that {@code actual} matches what this {@code Matcher} is meant to
+    * check, then returns a corresponding {@link Result}.
+    * @param actual the {@code int} being tested
+    * @return the {@code Result} of the test
+    */
+   Result matchInt(int actual);
+
+   /**
+    * The inverse of {@link #matchInt(int)}.
+    * @param actual the {@code int} being tested
+    * @return the {@code Result} of the inverted test
+    */
+   Result notMatchesInt(int actual);
+
+   default Result match(Integer actual)
+   {
+      return matchInt(actual);
+   }
+
+   default Result notMatches(Integer actual)
+   {
+      return notMatchesInt(actual);
+   }
+}
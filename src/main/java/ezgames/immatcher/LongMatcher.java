@@ -0,0 +1,39 @@
+package ezgames.immatcher;
+
+/**
+ * {@code LongMatcher} is a {@link Matcher} specialized for {@code long}s, so that
+ * checking a {@code long} doesn't have to box it.
+ * <p>
+ * It's still a {@code Matcher<Long>}, so it can be used anywhere a regular
+ * {@code Matcher} can, such as in {@code allOf()}; boxed values are simply
+ * unboxed and handed to {@link #matchLong(long)}. Use
+ * {@link Assertions#assertThat(long, LongMatcher)} to keep the value unboxed
+ * the whole way through.</p>
+ */
+public interface LongMatcher extends Matcher<Long>
+{
+   /**
+    * Checks that {@code actual} matches what this {@code Matcher} is meant to
+    * check, then returns a corresponding {@link Result}.
+    * @param actual the {@code long} being tested
+    * @return the {@code Result} of the test
+    */
+   Result matchLong(long actual);
+
+   /**
+    * The inverse of {@link #matchLong(long)}.
+    * @param actual the {@code long} being tested
+    * @return the {@code Result} of the inverted test
+    */
+   Result notMatchesLong(long actual);
+
+   default Result match(Long actual)
+   {
+      return matchLong(actual);
+   }
+
+   default Result notMatches(Long actual)
+   {
+      return notMatchesLong(actual);
+   }
+}
@@ -2,7 +2,14 @@
 
 package ezgames.immatcher
 
-import java.util.function.BiFunction
+import java.util.concurrent.Callable
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.ForkJoinTask
+import java.util.concurrent.ThreadLocalRandom
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicReferenceArray
+import java.util.concurrent.atomic.LongAdder
 
 /**
  * `Matcher` is the basis of the entire library and works similarly to
@@ -61,6 +68,12 @@ fun <T> not(original: Matcher<T>): Matcher<T> {
  * `Matcher`s pass. Strings the [Result] together as well.
  *
  *
+ * The `Matcher`s are checked in order, and checking stops at the first one
+ * that fails, so the `Result` only includes the `Matcher`s that were
+ * actually run, in a single flat `AND(...)`. Use [allOfReportingAll] to run
+ * every `Matcher` and report every failure.
+ *
+ *
  * `first` and `second` are there to ensure that at least two `Matcher`s
  * are given for combining together
  * @param first the first `Matcher` to combine
@@ -77,7 +90,27 @@ fun <T> not(original: Matcher<T>): Matcher<T> {
 fun <T> allOf(first: Matcher<T>,
               second: Matcher<T>,
               vararg others: Matcher<T>): Matcher<T> {
-    return combine(BiFunction<Matcher<T>, Matcher<T>, Matcher<T>> { first, second -> first and second }, first, second, *others)
+    return FlatMatcher(arrayOf(first, second, *others), conjunction = true, reportAll = false)
+}
+
+/**
+ * The same as [allOf], except that every `Matcher` is run, even after one
+ * has failed, so that the [Result] reports all of the failures.
+ * @param first the first `Matcher` to combine
+ * *
+ * @param second the second `Matcher` to combine
+ * *
+ * @param others any other `Matcher`s that may need to be combined
+ * *
+ * @param <T> the type of the object being tested
+ * *
+ * @return a new `Matcher` that wraps all the other `Matcher`s
+</T> */
+@SafeVarargs
+fun <T> allOfReportingAll(first: Matcher<T>,
+                          second: Matcher<T>,
+                          vararg others: Matcher<T>): Matcher<T> {
+    return FlatMatcher(arrayOf(first, second, *others), conjunction = true, reportAll = true)
 }
 
 /**
@@ -85,6 +118,10 @@ fun <T> allOf(first: Matcher<T>,
  * `Matcher`s pass. Strings the [Result] together as well.
  *
  *
+ * The `Matcher`s are checked in order, and checking stops at the first one
+ * that passes.
+ *
+ *
  * `first` and `second` are there to ensure that at least two `Matcher`s
  * are given for combining together
  * @param first the first `Matcher` to combine
@@ -100,7 +137,104 @@ fun <T> allOf(first: Matcher<T>,
 fun <T> anyOf(first: Matcher<T>,
               second: Matcher<T>,
               vararg others: Matcher<T>): Matcher<T> {
-    return combine(BiFunction<Matcher<T>, Matcher<T>, Matcher<T>> { first, second -> first or second }, first, second, *others)
+    return FlatMatcher(arrayOf(first, second, *others), conjunction = false, reportAll = false)
+}
+
+/**
+ * The same as [allOf], except that the `Matcher`s are run in parallel on the
+ * common `ForkJoinPool`. This is meant for combining expensive `Matcher`s,
+ * such as ones that walk large object graphs or collections.
+ *
+ *
+ * Once a `Matcher` fails, the ones after it that haven't started yet are
+ * cancelled. The [Result] is put together in declaration order from the same
+ * `Matcher`s that [allOf] would have run, so its messages are identical to
+ * the sequential version's.
+ * @param first the first `Matcher` to combine
+ * *
+ * @param second the second `Matcher` to combine
+ * *
+ * @param others any other `Matcher`s that may need to be combined
+ * *
+ * @param <T> the type of the object being tested
+ * *
+ * @return a new `Matcher` that wraps all the other `Matcher`s
+</T> */
+@SafeVarargs
+fun <T> parallelAllOf(first: Matcher<T>,
+                      second: Matcher<T>,
+                      vararg others: Matcher<T>): Matcher<T> {
+    return FlatMatcher(arrayOf(first, second, *others), conjunction = true, reportAll = false, pool = ForkJoinPool.commonPool())
+}
+
+/**
+ * The same as [anyOf], except that the `Matcher`s are run in parallel on the
+ * common `ForkJoinPool`. Once a `Matcher` passes, the ones after it that
+ * haven't started yet are cancelled, and the [Result] is identical to the
+ * one [anyOf] would give.
+ * @param first the first `Matcher` to combine
+ * *
+ * @param second the second `Matcher` to combine
+ * *
+ * @param others any other `Matcher`s that may need to be combined
+ * *
+ * @param <T> the type of the object being tested
+ * *
+ * @return a new `Matcher` that wraps all the other `Matcher`s
+</T> */
+@SafeVarargs
+fun <T> parallelAnyOf(first: Matcher<T>,
+                      second: Matcher<T>,
+                      vararg others: Matcher<T>): Matcher<T> {
+    return FlatMatcher(arrayOf(first, second, *others), conjunction = false, reportAll = false, pool = ForkJoinPool.commonPool())
+}
+
+/**
+ * The same as [allOf], except that the returned [AdaptiveMatcher] learns, as
+ * it's used, which of its `Matcher`s are cheapest and most likely to fail, and
+ * checks those first. This is meant for a `Matcher` that's reused for many
+ * values, such as one that validates every record of a large data set.
+ *
+ *
+ * The [Result] still lists the `Matcher`s in declaration order, and the
+ * outcome is the same as [allOf]'s; only which failure gets reported can
+ * change as the order changes.
+ * @param first the first `Matcher` to combine
+ * *
+ * @param second the second `Matcher` to combine
+ * *
+ * @param others any other `Matcher`s that may need to be combined
+ * *
+ * @param <T> the type of the object being tested
+ * *
+ * @return a new `Matcher` that wraps all the other `Matcher`s
+</T> */
+@SafeVarargs
+fun <T> adaptiveAllOf(first: Matcher<T>,
+                      second: Matcher<T>,
+                      vararg others: Matcher<T>): AdaptiveMatcher<T> {
+    return AdaptiveMatcher(arrayOf(first, second, *others), conjunction = true)
+}
+
+/**
+ * The same as [anyOf], except that the returned [AdaptiveMatcher] learns, as
+ * it's used, which of its `Matcher`s are cheapest and most likely to pass, and
+ * checks those first. See [adaptiveAllOf].
+ * @param first the first `Matcher` to combine
+ * *
+ * @param second the second `Matcher` to combine
+ * *
+ * @param others any other `Matcher`s that may need to be combined
+ * *
+ * @param <T> the type of the object being tested
+ * *
+ * @return a new `Matcher` that wraps all the other `Matcher`s
+</T> */
+@SafeVarargs
+fun <T> adaptiveAnyOf(first: Matcher<T>,
+                      second: Matcher<T>,
+                      vararg others: Matcher<T>): AdaptiveMatcher<T> {
+    return AdaptiveMatcher(arrayOf(first, second, *others), conjunction = false)
 }
 
 fun <T> both(first: Matcher<T>, second: Matcher<T>): Matcher<T> {
@@ -119,18 +253,376 @@ infix fun <T> Matcher<T>.or(second: Matcher<T>): Matcher<T> {
     return ORChainedMatcher(this, second)
 }
 
-private fun <T> combine(
-        combiner: BiFunction<Matcher<T>, Matcher<T>, Matcher<T>>,
-        first: Matcher<T>, second: Matcher<T>,
-        vararg others: Matcher<T>): Matcher<T> {
-    var combined = combiner.apply(first, second)
-    for (next in others) {
-        combined = combiner.apply(combined, next)
+/**
+ * Returns a [Matcher] that checks the same thing as `matcher`, but that's
+ * cheaper to run. This is meant for large trees of [allOf]s and [anyOf]s that
+ * are built up programmatically, and is best done once, when the tree is
+ * built.
+ *
+ *
+ * Throughout the tree,
+ *  * an [allOf] or [anyOf] nested directly in another of the same kind has its
+ *    `Matcher`s pulled up into the outer one,
+ *  * repeats of a `Matcher` in the same [allOf] or [anyOf] are dropped,
+ *  * `not(not(m))` becomes `m`, and
+ *  * within each [allOf] and [anyOf], every run of neighbouring `Matcher`s
+ *    that declare their cost is run cheapest first, so that checking stops
+ *    as early as it can.
+ *
+ *
+ * A `Matcher` declares its cost by implementing [Costed]; a combinator does
+ * when all of the `Matcher`s in it do. One that doesn't is never moved, and
+ * nothing is moved past it, since it may be guarding the ones after it, such
+ * as a custom null check before a property check. Within a run, the cost of a
+ * `Matcher` is the average time [Instrumentation] has observed for its class,
+ * if instrumentation is on and it has been seen, or else the cost it declares.
+ * `Matcher`s of equal cost keep their order.
+ *
+ *
+ * The [Result]s still list the `Matcher`s in the order they were declared.
+ * Since the first failure (or pass, for [anyOf]) still ends the check, the
+ * `Matcher` that gets reported can be a different one than before
+ * optimizing. Declaring a cost amounts to saying that a `Matcher` doesn't
+ * rely on its neighbours having run first; as long as that holds, the outcome
+ * is the same.
+ * @param matcher the `Matcher` to optimize
+ * *
+ * @param <T> the type of the object being tested
+ * *
+ * @return the optimized `Matcher`
+</T> */
+fun <T> optimize(matcher: Matcher<T>): Matcher<T> {
+    @Suppress("UNCHECKED_CAST")
+    return if (matcher is Optimizable<*>) (matcher as Optimizable<T>).optimized() else matcher
+}
+
+/**
+ * Implemented by the combinators that [optimize] knows how to rewrite.
+ */
+private interface Optimizable<T> : Matcher<T> {
+    fun optimized(): Matcher<T>
+
+    /**
+     * Whether every `Matcher` inside this one declares its cost.
+     */
+    fun declaresCost(): Boolean
+}
+
+private fun declaresCost(matcher: Matcher<*>): Boolean {
+    return if (matcher is Optimizable<*>) matcher.declaresCost() else matcher is Costed
+}
+
+private fun costOf(matcher: Matcher<*>): Long {
+    if (matcher is Optimizable<*>)
+        return (matcher as Costed).cost
+    val observed = Instrumentation.observedCost(matcher)
+    return when {
+        observed >= 0 -> observed
+        matcher is Costed -> matcher.cost
+        else -> Costed.UNKNOWN
+    }
+}
+
+/**
+ * The n-ary `Matcher` behind [allOf] and [anyOf]. Rather than nesting binary
+ * matchers, which recurses once per `Matcher` and nests the messages just as
+ * deeply, it loops over its `Matcher`s and renders one flat message.
+ *
+ *
+ * A child `Result` is "decisive" when it settles the outcome on its own: a
+ * failure for a conjunction (`AND`) or a pass for a disjunction (`OR`).
+ * Checking stops at the first decisive `Result`, unless `reportAll` is set.
+ * `notMatches()` runs the same checks and reports the opposite outcome.
+ *
+ *
+ * Given a `pool`, the `Matcher`s are run in parallel on it, but the `Result`s
+ * used are exactly the ones a sequential run would have used.
+ *
+ *
+ * Given an `order` (from [optimize]), the `Matcher`s are run in that order,
+ * by index, but their `Result`s are still reported in declaration order.
+ */
+private class FlatMatcher<T>(private val matchers: Array<out Matcher<T>>,
+                             private val conjunction: Boolean,
+                             private val reportAll: Boolean,
+                             private val pool: ForkJoinPool? = null,
+                             private val order: IntArray? = null) : Optimizable<T>, Costed {
+
+    private val name = if (conjunction) "AND" else "OR"
+
+    override fun match(actual: T): Result {
+        val results = evaluate(actual)
+        return flatResult(anyDecisive(results) == conjunction, name, results)
+    }
+
+    override fun notMatches(actual: T): Result {
+        val results = evaluate(actual)
+        return flatResult(anyDecisive(results) != conjunction, "NOT $name", results)
+    }
+
+    /**
+     * Returns the `Result`s of the `Matcher`s, in order, with `null`s for
+     * any that weren't run.
+     */
+    private fun evaluate(actual: T): Array<Result?> {
+        if (pool != null)
+            return evaluateInParallel(actual, pool)
+
+        val results = arrayOfNulls<Result>(matchers.size)
+        for (k in matchers.indices) {
+            val i = indexAt(k)
+            val result = matchers[i].match(actual)
+            results[i] = result
+            if (isDecisive(result) && !reportAll)
+                break
+        }
+        return results
+    }
+
+    /**
+     * Submits every `Matcher` to the pool, then joins them in order, the same
+     * way the sequential loop would run them. Any `Matcher` after the first
+     * decisive one is never joined, so it can't change the `Result`; those
+     * that haven't started are cancelled, and those that start late skip the
+     * match.
+     */
+    private fun evaluateInParallel(actual: T, pool: ForkJoinPool): Array<Result?> {
+        val firstDecisive = AtomicInteger(matchers.size)
+        val tasks = AtomicReferenceArray<ForkJoinTask<Result?>>(matchers.size)
+        for (k in matchers.indices)
+            tasks.set(k, pool.submit(Callable { check(k, actual, firstDecisive, tasks) }))
+
+        val results = arrayOfNulls<Result>(matchers.size)
+        for (k in matchers.indices) {
+            // every earlier Matcher was indecisive, so this one can't have
+            // been skipped or cancelled
+            val result = tasks.get(k).join()!!
+            results[indexAt(k)] = result
+            if (isDecisive(result) && !reportAll)
+                break
+        }
+        return results
+    }
+
+    private fun check(k: Int, actual: T, firstDecisive: AtomicInteger, tasks: AtomicReferenceArray<ForkJoinTask<Result?>>): Result? {
+        if (k > firstDecisive.get())
+            return null
+        val result = matchers[indexAt(k)].match(actual)
+        if (isDecisive(result) && !reportAll) {
+            firstDecisive.accumulateAndGet(k) { current, found -> Math.min(current, found) }
+            for (j in k + 1 until tasks.length())
+                tasks.get(j)?.cancel(false)
+        }
+        return result
+    }
+
+    /**
+     * Returns the index of the `Matcher` that runs `k`th.
+     */
+    private fun indexAt(k: Int): Int {
+        return if (order == null) k else order[k]
+    }
+
+    private fun isDecisive(result: Result): Boolean {
+        return result.failed() == conjunction
+    }
+
+    private fun anyDecisive(results: Array<Result?>): Boolean {
+        return results.any { it != null && isDecisive(it) }
+    }
+
+    override fun getCost(): Long {
+        return matchers.fold(0L) { total, matcher -> total + costOf(matcher) }
+    }
+
+    override fun optimized(): Matcher<T> {
+        val children = LinkedHashSet<Matcher<T>>()
+        for (matcher in matchers) {
+            val child = optimize(matcher)
+            if (child is FlatMatcher<T> && child.isSameKindAs(this))
+                children.addAll(child.matchers)
+            else
+                children.add(child)
+        }
+        if (children.size == 1)
+            return children.first()
+
+        val flattened = children.toList()
+        return FlatMatcher(Array(flattened.size) { flattened[it] }, conjunction, reportAll, pool, orderOf(flattened))
+    }
+
+    override fun declaresCost(): Boolean {
+        return matchers.all { declaresCost(it) }
+    }
+
+    /**
+     * Sorts each run of `Matcher`s that declare their cost by that cost,
+     * leaving the others where they are.
+     */
+    private fun orderOf(children: List<Matcher<T>>): IntArray {
+        val order = IntArray(children.size) { it }
+        var start = 0
+        while (start < children.size) {
+            var end = start
+            while (end < children.size && declaresCost(children[end]))
+                end++
+            if (end - start > 1) {
+                val costs = LongArray(end - start) { costOf(children[start + it]) }
+                (start until end).sortedBy { costs[it - start] }.forEachIndexed { i, index -> order[start + i] = index }
+            }
+            start = end + 1
+        }
+        return order
+    }
+
+    private fun isSameKindAs(other: FlatMatcher<T>): Boolean {
+        return conjunction == other.conjunction && reportAll == other.reportAll && pool == other.pool
+    }
+}
+
+/**
+ * The self-tuning `Matcher` behind [adaptiveAllOf] and [adaptiveAnyOf]. It
+ * checks its `Matcher`s in order and stops at the first decisive `Result`,
+ * the same as [allOf] and [anyOf], but it keeps reordering them so that the
+ * ones with the lowest time per decisive `Result` go first.
+ *
+ *
+ * Only about one check in [SAMPLE_RATE] is sampled: it times each `Matcher`
+ * it runs and counts whether its `Result` was decisive. The rest run with no
+ * overhead beyond reading the current order. The counters are `LongAdder`s
+ * and the order is swapped in whole, so any number of threads can use the
+ * same `AdaptiveMatcher` without locking. Every [REORDER_INTERVAL] samples,
+ * the order is worked out again from what's been counted.
+ *
+ *
+ * Once the order has settled, [freeze] gives a plain `Matcher` that keeps
+ * that order and does no more sampling.
+ */
+class AdaptiveMatcher<T> internal constructor(private val matchers: Array<out Matcher<T>>,
+                                              private val conjunction: Boolean) : Matcher<T> {
+
+    private val name = if (conjunction) "AND" else "OR"
+    private val runs = Array(matchers.size) { LongAdder() }
+    private val decisive = Array(matchers.size) { LongAdder() }
+    private val nanos = Array(matchers.size) { LongAdder() }
+    private val samples = AtomicLong()
+    @Volatile private var order = IntArray(matchers.size) { it }
+
+    override fun match(actual: T): Result {
+        val results = evaluate(actual)
+        return flatResult(anyDecisive(results) == conjunction, name, results)
+    }
+
+    override fun notMatches(actual: T): Result {
+        val results = evaluate(actual)
+        return flatResult(anyDecisive(results) != conjunction, "NOT $name", results)
+    }
+
+    /**
+     * Returns a `Matcher` that checks the `Matcher`s in the order learned so
+     * far, without learning any more.
+     * @return the frozen `Matcher`
+     */
+    fun freeze(): Matcher<T> {
+        return FlatMatcher(matchers, conjunction, reportAll = false, order = order.copyOf())
+    }
+
+    /**
+     * Returns the indexes of the `Matcher`s, in the order that they're
+     * currently checked in.
+     * @return the current order of the `Matcher`s
+     */
+    fun getOrder(): IntArray {
+        return order.copyOf()
+    }
+
+    private fun evaluate(actual: T): Array<Result?> {
+        val order = this.order
+        val sampled = ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0
+        val results = arrayOfNulls<Result>(matchers.size)
+        for (i in order) {
+            val result = if (sampled) sample(i, actual) else matchers[i].match(actual)
+            results[i] = result
+            if (isDecisive(result))
+                break
+        }
+        if (sampled && samples.incrementAndGet() % REORDER_INTERVAL == 0L)
+            reorder()
+        return results
+    }
+
+    private fun sample(i: Int, actual: T): Result {
+        val start = System.nanoTime()
+        val result = matchers[i].match(actual)
+        nanos[i].add(System.nanoTime() - start)
+        runs[i].increment()
+        if (isDecisive(result))
+            decisive[i].increment()
+        return result
+    }
+
+    private fun reorder() {
+        val scores = DoubleArray(matchers.size) { score(it) }
+        order = matchers.indices.sortedBy { scores[it] }.toIntArray()
+    }
+
+    /**
+     * The average time spent on a `Matcher` for each check that it ends: its
+     * average time divided by how often it's decisive. Checking in order of
+     * this score gives the lowest expected time per check. The rate is
+     * smoothed so that a `Matcher` that's never been decisive still gets a
+     * finite score, and one that's never been sampled scores 0, so that it
+     * goes first and gets sampled. The average time is at least a nanosecond,
+     * since a coarse clock can time every check at 0, and the decisive rate
+     * should still order them then.
+     */
+    private fun score(i: Int): Double {
+        val count = runs[i].sum()
+        if (count == 0L)
+            return 0.0
+        val meanNanos = Math.max(nanos[i].sum().toDouble() / count, 1.0)
+        val decisiveRate = (decisive[i].sum() + 1.0) / (count + 2.0)
+        return meanNanos / decisiveRate
+    }
+
+    private fun isDecisive(result: Result): Boolean {
+        return result.failed() == conjunction
+    }
+
+    private fun anyDecisive(results: Array<Result?>): Boolean {
+        return results.any { it != null && isDecisive(it) }
     }
-    return combined
 }
 
-private class InvertedMatcher<T> internal constructor(private val wrapped: Matcher<T>) : Matcher<T> {
+/** How many checks by an [AdaptiveMatcher] there are per sampled one, on average */
+private const val SAMPLE_RATE = 16
+
+/** How many samples an [AdaptiveMatcher] takes between working out its order */
+private const val REORDER_INTERVAL = 64L
+
+private fun flatResult(failed: Boolean, name: String, results: Array<Result?>): Result {
+    return Result(failed,
+            Message { out -> write(out, name, results) { it.appendExpected(out) } },
+            Message { out -> write(out, name, results) { it.appendOnFailure(out) } },
+            Message { out -> write(out, name, results) { it.appendActual(out) } })
+}
+
+/**
+ * Writes the children's messages straight into `out`, so a whole tree of
+ * nested `Result`s is rendered into one buffer in one pass.
+ */
+private inline fun write(out: StringBuilder, name: String, results: Array<Result?>, message: (Result) -> Unit) {
+    out.append(name).append('(')
+    for (result in results) {
+        if (result != null) {
+            out.append('\n')
+            message(result)
+        }
+    }
+    out.append(')')
+}
+
+private class InvertedMatcher<T> internal constructor(private val wrapped: Matcher<T>) : Optimizable<T>, Costed {
 
     override fun match(actual: T): Result {
         return wrapped.notMatches(actual)
@@ -139,9 +631,22 @@ private class InvertedMatcher<T> internal constructor(private val wrapped: Match
     override fun notMatches(actual: T): Result {
         return wrapped.match(actual)
     }
+
+    override fun getCost(): Long {
+        return costOf(wrapped)
+    }
+
+    override fun optimized(): Matcher<T> {
+        val inner = optimize(wrapped)
+        return if (inner is InvertedMatcher<T>) inner.wrapped else InvertedMatcher(inner)
+    }
+
+    override fun declaresCost(): Boolean {
+        return declaresCost(wrapped)
+    }
 }
 
-private class ANDChainedMatcher<T> internal constructor(private val original: Matcher<T>, private val next: Matcher<T>) : Matcher<T> {
+private class ANDChainedMatcher<T> internal constructor(private val original: Matcher<T>, private val next: Matcher<T>) : Optimizable<T>, Costed {
 
     override fun match(actual: T): Result {
         val baseResult = original.match(actual)
@@ -155,22 +660,28 @@ private class ANDChainedMatcher<T> internal constructor(private val original: Ma
         return NANDChainResult(baseResult, nextResult)
     }
 
+    override fun getCost(): Long {
+        return costOf(original) + costOf(next)
+    }
+
+    override fun optimized(): Matcher<T> {
+        return ANDChainedMatcher(optimize(original), optimize(next))
+    }
+
+    override fun declaresCost(): Boolean {
+        return declaresCost(original) && declaresCost(next)
+    }
+
     private fun ANDChainResult(one: Result, two: Result): Result {
-        return Result(one.failed() || two.failed(),
-                "AND(\n${one.expected}\n${two.expected})",
-                "AND(\n${one.onFailure}\n${two.onFailure})",
-                "AND(\n${one.actual}\n${two.actual})")
+        return flatResult(one.failed() || two.failed(), "AND", arrayOf(one, two))
     }
 
     private fun NANDChainResult(one: Result, two: Result): Result {
-        return Result(!one.failed() && !two.failed(),
-                "NOT AND(\n${one.expected}\n${two.expected})",
-                "NOT AND(\n${one.onFailure}\n${two.onFailure})",
-                "NOT AND(\n${one.actual}\n${two.actual})")
+        return flatResult(!one.failed() && !two.failed(), "NOT AND", arrayOf(one, two))
     }
 }
 
-private class ORChainedMatcher<T> internal constructor(private val original: Matcher<T>, private val next: Matcher<T>) : Matcher<T> {
+private class ORChainedMatcher<T> internal constructor(private val original: Matcher<T>, private val next: Matcher<T>) : Optimizable<T>, Costed {
 
     override fun match(actual: T): Result {
         val baseResult = original.match(actual)
@@ -184,17 +695,23 @@ private class ORChainedMatcher<T> internal constructor(private val original: Mat
         return NORChainResult(baseResult, nextResult)
     }
 
+    override fun getCost(): Long {
+        return costOf(original) + costOf(next)
+    }
+
+    override fun optimized(): Matcher<T> {
+        return ORChainedMatcher(optimize(original), optimize(next))
+    }
+
+    override fun declaresCost(): Boolean {
+        return declaresCost(original) && declaresCost(next)
+    }
+
     private fun ORChainResult(one: Result, two: Result): Result {
-        return Result(one.failed() && two.failed(),
-                "OR(\n${one.expected}\n${two.expected})",
-                "OR(\n${one.onFailure}\n${two.onFailure})",
-                "OR(\n${one.actual}\n${two.actual})")
+        return flatResult(one.failed() && two.failed(), "OR", arrayOf(one, two))
     }
 
     private fun NORChainResult(one: Result, two: Result): Result {
-        return Result(!(!one.failed() && !two.failed()),
-                "NOT OR(\n${one.expected}\n${two.expected})",
-                "NOT OR(\n${one.onFailure}\n${two.onFailure})",
-                "NOT OR(\n${one.actual}\n${two.actual})")
+        return flatResult(!(!one.failed() && !two.failed()), "NOT OR", arrayOf(one, two))
     }
 }
\ No newline at end of file
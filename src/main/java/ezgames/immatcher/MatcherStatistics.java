@@ -0,0 +1,115 @@
+package ezgames.immatcher;
+
+/**
+ * {@code MatcherStatistics} is a snapshot of what {@link Instrumentation}
+ * recorded for one class of {@link Matcher}.
+ * <p>
+ * Latencies are kept in a histogram of power-of-two buckets: bucket {@code 0}
+ * counts matches that took 0ns (by the timer's resolution), and bucket
+ * {@code i} counts those that took from 2<sup>i-1</sup> up to 2<sup>i</sup>
+ * nanoseconds. The last bucket also counts anything slower.</p>
+ */
+public final class MatcherStatistics
+{
+   /**
+    * The number of buckets in the latency histogram
+    */
+   public static final int BUCKETS = 40;
+
+   /**
+    * Returns the class of {@code Matcher} these statistics are for
+    * @return the class of {@code Matcher} these statistics are for
+    */
+   public Class<?> getMatcherClass()
+   {
+      return matcherClass;
+   }
+
+   /**
+    * Returns how many times the {@code Matcher}s were run
+    * @return how many times the {@code Matcher}s were run
+    */
+   public long getInvocations()
+   {
+      return passes + failures;
+   }
+
+   /**
+    * Returns how many of the runs passed
+    * @return how many of the runs passed
+    */
+   public long getPasses()
+   {
+      return passes;
+   }
+
+   /**
+    * Returns how many of the runs failed
+    * @return how many of the runs failed
+    */
+   public long getFailures()
+   {
+      return failures;
+   }
+
+   /**
+    * Returns the total time spent in the runs, in nanoseconds
+    * @return the total time spent in the runs, in nanoseconds
+    */
+   public long getTotalNanos()
+   {
+      return totalNanos;
+   }
+
+   /**
+    * Returns the counts of the latency histogram, as described above
+    * @return the counts of the latency histogram
+    */
+   public long[] getLatencyHistogram()
+   {
+      return histogram.clone();
+   }
+
+   @Override
+   public String toString()
+   {
+      return appendJson(new StringBuilder()).toString();
+   }
+
+   MatcherStatistics(Class<?> matcherClass, long passes, long failures, long totalNanos, long[] histogram)
+   {
+      this.matcherClass = matcherClass;
+      this.passes = passes;
+      this.failures = failures;
+      this.totalNanos = totalNanos;
+      this.histogram = histogram;
+   }
+
+   static int bucketOf(long nanos)
+   {
+      return Math.min(64 - Long.numberOfLeadingZeros(Math.max(nanos, 0)), BUCKETS - 1);
+   }
+
+   StringBuilder appendJson(StringBuilder builder)
+   {
+      builder.append("{\"class\":\"").append(matcherClass.getName())
+             .append("\",\"invocations\":").append(getInvocations())
+             .append(",\"passes\":").append(passes)
+             .append(",\"failures\":").append(failures)
+             .append(",\"totalNanos\":").append(totalNanos)
+             .append(",\"histogram\":[");
+      for(int i = 0; i < histogram.length; i++)
+      {
+         if(i > 0)
+            builder.append(',');
+         builder.append(histogram[i]);
+      }
+      return builder.append("]}");
+   }
+
+   private final Class<?> matcherClass;
+   private final long passes;
+   private final long failures;
+   private final long totalNanos;
+   private final long[] histogram;
+}
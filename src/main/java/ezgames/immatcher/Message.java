@@ -0,0 +1,27 @@
+package ezgames.immatcher;
+
+/**
+ * A {@code Message} is a {@link Result} message that writes itself into a
+ * buffer instead of returning a {@code String}.
+ * <p>
+ * It's meant for messages made out of other {@code Result}s' messages, like
+ * those of {@link Matchers#allOf}. Such a message can write its children
+ * straight into the same buffer, with
+ * {@link Result#appendExpected(StringBuilder)} and friends, so that a whole
+ * tree of nested {@code Result}s is rendered in one pass into one buffer,
+ * rather than each level building a {@code String} of its own for its parent
+ * to copy.</p>
+ * <p>
+ * When a {@code Result}'s message is asked for as a {@code String}, it's
+ * written into a reusable, per-thread buffer.</p>
+ */
+@FunctionalInterface
+public interface Message
+{
+   /**
+    * Writes the message onto the end of `out`. The {@code Result} writes the
+    * tab that starts every message, so the message shouldn't.
+    * @param out the buffer to write the message into
+    */
+   void writeTo(StringBuilder out);
+}
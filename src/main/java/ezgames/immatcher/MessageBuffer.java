@@ -0,0 +1,40 @@
+package ezgames.immatcher;
+
+/**
+ * {@code MessageBuffer} renders {@link Message}s into a per-thread
+ * {@code StringBuilder} that's reused from one message to the next.
+ * <p>
+ * Rendering can nest (a {@code Message} may ask another {@code Result} for a
+ * rendered {@code String}), so each rendering uses the buffer from wherever it
+ * currently ends and puts it back the way it found it. A buffer that grew huge
+ * for one message is dropped rather than kept around.</p>
+ */
+final class MessageBuffer
+{
+   /**
+    * Renders the message, preceded by `prefix`.
+    */
+   static String render(String prefix, Message message)
+   {
+      StringBuilder buffer = BUFFER.get();
+      int start = buffer.length();
+      try
+      {
+         buffer.append(prefix);
+         message.writeTo(buffer);
+         return buffer.substring(start);
+      }
+      finally
+      {
+         buffer.setLength(start);
+         if(start == 0 && buffer.capacity() > MAX_RETAINED)
+            BUFFER.set(new StringBuilder(INITIAL_CAPACITY));
+      }
+   }
+
+   private MessageBuffer() {}
+
+   private static final int INITIAL_CAPACITY = 256;
+   private static final int MAX_RETAINED = 64 * 1024;
+   private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+}
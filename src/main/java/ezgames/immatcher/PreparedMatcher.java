@@ -0,0 +1,159 @@
+package ezgames.immatcher;
+
+import java.util.function.Supplier;
+
+/**
+ * {@code PreparedMatcher} is the base for {@link Matcher}s that are made once
+ * and then run many times, such as in a loop or against every value of a
+ * batch.
+ * <p>
+ * Everything that doesn't depend on the value being tested (the messages,
+ * the {@link Result}s and any comparators or lookup structures) is prepared
+ * in the constructor. Then a passing match, or any
+ * {@code notMatches()}, only does the actual check and hands back a
+ * {@link Result} built once up front. Only a failure that has something to
+ * say about the tested value builds anything, and that message is lazy.</p>
+ * <p>
+ * A subclass gives its expected and failure messages to the constructor and
+ * implements {@link #matches(Object)}. If its failure can say more than the
+ * fixed failure message (like which elements were missing), it overrides
+ * {@link #failure(Object)}. If the check itself works out what the failure
+ * message needs, it can override {@link #match(Object)} instead, using
+ * {@link #passed()} and {@link #failedWith(Supplier)}, so the work isn't done
+ * twice.</p>
+ * <p>
+ * The {@code int}, {@code long} and {@code double} matchers follow the same
+ * pattern without this class, since their checks don't take objects.</p>
+ * @param <T> the type of object being tested
+ */
+public abstract class PreparedMatcher<T> implements Matcher<T>
+{
+   /**
+    * Prepares the {@code Result}s of the matcher.
+    * @param expected the message of what the matcher expects in order to pass
+    * @param onFailure the message of what the matcher found on a failure, which
+    *                  is also what {@code notMatches()} expects
+    */
+   protected PreparedMatcher(String expected, String onFailure)
+   {
+      this(new Result(false, expected, onFailure), new Result(true, expected, onFailure),
+           new Result(false, onFailure, expected), new Result(true, onFailure, expected));
+   }
+
+   /**
+    * Prepares the {@code Result}s of the matcher, with messages that aren't
+    * rendered until one of them is read. Use this when the messages contain
+    * values given to the matcher, rendered with {@link Values#render(Object)}.
+    * The prepared {@code Result}s are shared by every match, so each message
+    * is rendered at most once.
+    * @param expected supplies the message of what the matcher expects in order
+    *                 to pass
+    * @param onFailure supplies the message of what the matcher found on a
+    *                  failure, which is also what {@code notMatches()} expects
+    */
+   protected PreparedMatcher(Supplier<String> expected, Supplier<String> onFailure)
+   {
+      this(new Once(expected), new Once(onFailure));
+   }
+
+   private PreparedMatcher(Once expected, Once onFailure)
+   {
+      this(new Result(false, expected, onFailure), new Result(true, expected, onFailure),
+           new Result(false, onFailure, expected), new Result(true, onFailure, expected));
+   }
+
+   private PreparedMatcher(Result passed, Result failed, Result invertedPassed, Result invertedFailed)
+   {
+      this.passed = passed;
+      this.failed = failed;
+      this.invertedPassed = invertedPassed;
+      this.invertedFailed = invertedFailed;
+   }
+
+   /**
+    * Returns whether `actual` passes the check
+    * @param actual the object being tested
+    * @return whether `actual` passes the check
+    */
+   protected abstract boolean matches(T actual);
+
+   /**
+    * Returns the failing {@code Result} of {@link #match(Object)} for
+    * `actual`. By default, it's the prepared one with the fixed failure
+    * message.
+    * @param actual the object that failed
+    * @return the failing {@code Result}
+    */
+   protected Result failure(T actual)
+   {
+      return failed;
+   }
+
+   @Override
+   public Result match(T actual)
+   {
+      if(matches(actual))
+         return passed;
+      else
+         return failure(actual);
+   }
+
+   @Override
+   public Result notMatches(T actual)
+   {
+      if(matches(actual))
+         return invertedFailed;
+      else
+         return invertedPassed;
+   }
+
+   /**
+    * Returns the prepared passing {@code Result}
+    * @return the prepared passing {@code Result}
+    */
+   protected final Result passed()
+   {
+      return passed;
+   }
+
+   /**
+    * Returns a failing {@code Result} with the prepared expected message and
+    * a failure message that's rendered only if it's read.
+    * @param onFailure supplies the message of what the matcher found
+    * @return a failing {@code Result}
+    */
+   protected final Result failedWith(Supplier<String> onFailure)
+   {
+      return new Result(true, passed::getExpected, onFailure);
+   }
+
+   private final Result passed;
+   private final Result failed;
+   private final Result invertedPassed;
+   private final Result invertedFailed;
+
+   /**
+    * A {@code Supplier} that keeps what it supplied the first time, so the
+    * prepared {@code Result}s that share a message share its rendering.
+    * Racing threads may each render it, but they all get equal messages.
+    */
+   private static final class Once implements Supplier<String>
+   {
+      Once(Supplier<String> message)
+      {
+         this.message = message;
+      }
+
+      @Override
+      public String get()
+      {
+         String result = rendered;
+         if(result == null)
+            rendered = result = message.get();
+         return result;
+      }
+
+      private final Supplier<String> message;
+      private volatile String rendered;
+   }
+}
@@ -1,5 +1,7 @@
 package ezgames.immatcher;
 
+import java.util.function.Supplier;
+
 /**
  * {@code Result}s store the result of a test; Whether it failed, what the
  * expected result was, what a failure looks like, and what the actual result
@@ -23,10 +25,27 @@ package ezgames.immatcher;
  * <p>
  * This library doesn't pretend that there will be any output type other than
  * {@code String} output, the way Hamcrest does.</p>
+ * <p>
+ * Messages can also be given as {@code Supplier}s, in which case they are only
+ * rendered (and tabbed) the first time they're asked for. Since most
+ * {@code Result}s pass and never have their messages looked at, this keeps
+ * matchers from building strings that nobody reads.</p>
+ * <p>
+ * A message made out of other {@code Result}s' messages can be given as a
+ * {@link Message}, which writes itself and its children into one buffer using
+ * {@link #appendExpected(StringBuilder)} and the like, rather than having each
+ * level of nesting build its own {@code String}.</p>
  * For a nicer way of creating {@code Results}, check out {@link ResultBuilder}.
  */
 public class Result
 {
+   /**
+    * A canonical passing {@code Result} with the generic messages "passed" and
+    * "failed". Matchers and combinators that have nothing more specific to say
+    * about a pass can return this instead of allocating their own.
+    */
+   public static final Result PASSED = new Result(false, "passed", "failed");
+
    public Result(boolean failed, String expected, String onFailure)
    {
       this(failed, expected, onFailure, failed ? onFailure : expected);
@@ -35,9 +54,61 @@ public class Result
    public Result(boolean failed, String expected, String onFailure, String actual)
    {
       this.failed = failed;
-      this.expected = tabIt(expected);
-      this.onFailure = tabIt(onFailure);
-      this.actual = tabIt(actual);
+      this.expectedSource = this.expected = tabIt(expected);
+      this.onFailureSource = this.onFailure = tabIt(onFailure);
+      this.actualSource = this.actual = tabIt(actual);
+   }
+
+   /**
+    * Creates a {@code Result} whose messages are rendered lazily.
+    * @param failed whether the result is a failing result
+    * @param expected supplies the message of what was expected
+    * @param onFailure supplies the message of what a failure looks like
+    */
+   public Result(boolean failed, Supplier<String> expected, Supplier<String> onFailure)
+   {
+      this(failed, expected, onFailure, failed ? onFailure : expected);
+   }
+
+   /**
+    * Creates a {@code Result} whose messages are rendered lazily.
+    * @param failed whether the result is a failing result
+    * @param expected supplies the message of what was expected
+    * @param onFailure supplies the message of what a failure looks like
+    * @param actual supplies the message of what actually happened
+    */
+   public Result(boolean failed, Supplier<String> expected, Supplier<String> onFailure, Supplier<String> actual)
+   {
+      this.failed = failed;
+      this.expectedSource = expected;
+      this.onFailureSource = onFailure;
+      this.actualSource = actual;
+   }
+
+   /**
+    * Creates a {@code Result} whose messages write themselves when needed.
+    * @param failed whether the result is a failing result
+    * @param expected writes the message of what was expected
+    * @param onFailure writes the message of what a failure looks like
+    */
+   public Result(boolean failed, Message expected, Message onFailure)
+   {
+      this(failed, expected, onFailure, failed ? onFailure : expected);
+   }
+
+   /**
+    * Creates a {@code Result} whose messages write themselves when needed.
+    * @param failed whether the result is a failing result
+    * @param expected writes the message of what was expected
+    * @param onFailure writes the message of what a failure looks like
+    * @param actual writes the message of what actually happened
+    */
+   public Result(boolean failed, Message expected, Message onFailure, Message actual)
+   {
+      this.failed = failed;
+      this.expectedSource = expected;
+      this.onFailureSource = onFailure;
+      this.actualSource = actual;
    }
 
    /**
@@ -55,6 +126,8 @@ public class Result
     */
    public String getExpected()
    {
+      if(expected == null)
+         expected = render(expectedSource);
       return expected;
    }
 
@@ -64,6 +137,8 @@ public class Result
     */
    public String getOnFailure()
    {
+      if(onFailure == null)
+         onFailure = render(onFailureSource);
       return onFailure;
    }
 
@@ -73,9 +148,77 @@ public class Result
     */
    public String getActual()
    {
+      if(actual == null)
+      {
+         // the 3-arg constructor shares a source between actual and one of the
+         // others, so there's no need to render it twice
+         if(actualSource == expectedSource)
+            actual = getExpected();
+         else if(actualSource == onFailureSource)
+            actual = getOnFailure();
+         else
+            actual = render(actualSource);
+      }
       return actual;
    }
 
+   /**
+    * Appends the string that states the expected result onto `out`. If it
+    * hasn't been rendered yet and is a {@link Message}, it's written straight
+    * into `out` instead of being rendered to a {@code String} first.
+    * @param out the buffer to append the message to
+    */
+   public void appendExpected(StringBuilder out)
+   {
+      if(expected == null && expectedSource instanceof Message)
+         write(out, (Message)expectedSource);
+      else
+         out.append(getExpected());
+   }
+
+   /**
+    * Appends the string that states a failure result onto `out`, the same
+    * way as {@link #appendExpected(StringBuilder)}.
+    * @param out the buffer to append the message to
+    */
+   public void appendOnFailure(StringBuilder out)
+   {
+      if(onFailure == null && onFailureSource instanceof Message)
+         write(out, (Message)onFailureSource);
+      else
+         out.append(getOnFailure());
+   }
+
+   /**
+    * Appends the string that states the actual result onto `out`, the same
+    * way as {@link #appendExpected(StringBuilder)}.
+    * @param out the buffer to append the message to
+    */
+   public void appendActual(StringBuilder out)
+   {
+      if(actual == null && actualSource instanceof Message)
+         write(out, (Message)actualSource);
+      else
+         out.append(getActual());
+   }
+
+   private static void write(StringBuilder out, Message message)
+   {
+      out.append('\t');
+      message.writeTo(out);
+   }
+
+   @SuppressWarnings("unchecked")
+   private String render(Object source)
+   {
+      if(source instanceof String)
+         return (String)source;
+      else if(source instanceof Message)
+         return MessageBuffer.render("\t", (Message)source);
+      else
+         return tabIt(((Supplier<String>)source).get());
+   }
+
    private String tabIt(String message)
    {
       if(message.startsWith("\t"))
@@ -85,7 +228,14 @@ public class Result
    }
 
    private final boolean failed;
-   private final String expected;
-   private final String onFailure;
-   private final String actual;
+   // either the already-tabbed String, or the Supplier<String> or Message to
+   // render it from; kept final so that a Result is safe to share between threads
+   private final Object expectedSource;
+   private final Object onFailureSource;
+   private final Object actualSource;
+   // rendered forms; these are filled in on first request and are safe to race
+   // on, since every thread renders an equal, immutable String
+   private String expected;
+   private String onFailure;
+   private String actual;
 }
@@ -1,5 +1,7 @@
 package ezgames.immatcher;
 
+import java.util.function.Supplier;
+
 /**
  * {@code ResultBuilder} helps with creating {@link Result}s. It makes the
  * creation a two-step process, allowing you to enter the messages right away,
@@ -23,7 +25,17 @@ package ezgames.immatcher;
  * Thus removing some duplicate code.
  * <p>
  * Instead of calling {@link #pass()} or {@link #fail()}, the builder can take a
- * parametric value with {@link #buildWithPassStatusOf(boolean)}.
+ * parametric value with {@link #buildWithPassStatusOf(boolean)}.</p>
+ * <p>
+ * When a message depends on the value being tested, prefer
+ * {@link #withMessages(Supplier, Supplier)}, so that the message is only built
+ * if somebody actually reads it.</p>
+ * <p>
+ * A builder made with fixed {@code String} messages only ever creates one
+ * passing and one failing {@code Result}, which it hands out again on every
+ * later call. {@code Result}s are immutable, so keeping a builder around in a
+ * field (rather than making a new one per match) makes a matcher's results
+ * allocation-free.</p>
  * @see Result
  * @see Result
  */
@@ -41,6 +53,21 @@ public class ResultBuilder
       return new ResultBuilder(expected, onFailure);
    }
 
+   /**
+    * Starts the builder with lazily-rendered expected and failure messages.
+    * The {@code Supplier}s aren't called until the message is requested from
+    * the built {@link Result}.
+    * @param expected - supplies the message of what the matcher is expecting
+    * in order to pass
+    * @param onFailure - supplies the message of what the matcher found or is a
+    * failure.
+    * @return a new {@code ResultBuilder} with the given message suppliers
+    */
+   public static ResultBuilder withMessages(Supplier<String> expected, Supplier<String> onFailure)
+   {
+      return new ResultBuilder(null, null, expected, onFailure);
+   }
+
    /**
     * Returns a passing {@link Result} with the messages given earlier. 
     * @return a passing {@code Result}
@@ -68,15 +95,40 @@ public class ResultBuilder
     */
    public Result buildWithPassStatusOf(boolean didPass)
    {
-      return new Result(!didPass, expected, onFailure);
+      if(expected == null)
+         return new Result(!didPass, lazyExpected, lazyOnFailure);
+
+      // lazy suppliers can depend on the value being tested, so only the
+      // fixed-message Results are safe to share
+      Result result = didPass ? passed : failed;
+      if(result == null)
+      {
+         result = new Result(!didPass, expected, onFailure);
+         if(didPass)
+            passed = result;
+         else
+            failed = result;
+      }
+      return result;
    }
 
    ResultBuilder(String expected, String onFailure)
+   {
+      this(expected, onFailure, null, null);
+   }
+
+   private ResultBuilder(String expected, String onFailure, Supplier<String> lazyExpected, Supplier<String> lazyOnFailure)
    {
       this.expected = expected;
       this.onFailure = onFailure;
+      this.lazyExpected = lazyExpected;
+      this.lazyOnFailure = lazyOnFailure;
    }
 
    private final String expected;
    private final String onFailure;
+   private final Supplier<String> lazyExpected;
+   private final Supplier<String> lazyOnFailure;
+   private volatile Result passed;
+   private volatile Result failed;
 }
@@ -0,0 +1,199 @@
+package ezgames.immatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code SoftAssertions} collects failing assertions instead of throwing on
+ * the first one, then throws a single {@code AssertionError} describing all
+ * of them when it's closed. It's meant to be used with try-with-resources:
+ * <pre><code>
+ * try(SoftAssertions softly = new SoftAssertions())
+ * {
+ * &nbsp; &nbsp;softly.assertThat(order.getStatus(), isEqualTo(SHIPPED));
+ * &nbsp; &nbsp;softly.assertThat(order.getItems(), isNotEmpty);
+ * }
+ * </code></pre>
+ * <p>
+ * A failure only records its {@link Result}; no exception, stack trace or
+ * message is made until {@link #close()}. Stack traces showing where each
+ * failure happened can be turned on with the constructor, at the cost of
+ * capturing one per failure.</p>
+ * <p>
+ * A {@code SoftAssertions} can be shared between threads. Passing assertions
+ * don't touch any shared state; failing ones are recorded under a lock.</p>
+ */
+public class SoftAssertions implements AutoCloseable
+{
+   /**
+    * Creates a {@code SoftAssertions} without stack traces, with room for 16
+    * failures before its buffer has to grow.
+    */
+   public SoftAssertions()
+   {
+      this(16, false);
+   }
+
+   /**
+    * Creates a {@code SoftAssertions}.
+    * @param expectedFailures how many failures to make room for up front
+    * @param captureStackTraces whether to capture a stack trace for each
+    *                           failure, to be attached to the thrown
+    *                           {@code AssertionError}
+    */
+   public SoftAssertions(int expectedFailures, boolean captureStackTraces)
+   {
+      this.failures = new Result[Math.max(expectedFailures, 1)];
+      this.traces = captureStackTraces ? new Throwable[failures.length] : null;
+   }
+
+   /**
+    * The soft version of {@link Assertions#assertThat(Object, Matcher)};
+    * records the {@link Result} if it's a failure instead of throwing.
+    * @param actual the object being tested by the {@code Matcher}
+    * @param matcher the {@code Matcher} that will test `actual`
+    * @param <T> the type of the object being tested
+    * @return whether the assertion passed
+    */
+   public <T> boolean assertThat(T actual, Matcher<? super T> matcher)
+   {
+      long start = Instrumentation.start();
+      Result result = matcher.match(actual);
+      Instrumentation.record(matcher, start, result);
+      if(result.failed())
+      {
+         record(result, null);
+         return false;
+      }
+      return true;
+   }
+
+   /**
+    * The same as {@link #assertThat(Object, Matcher)} except that it uses the
+    * provided `onFailureMessage` for this failure when throwing the
+    * {@code AssertionError}.
+    * @param actual the object being tested by the {@code Matcher}
+    * @param matcher the {@code Matcher} that will test `actual`
+    * @param onFailureMessage the message to report for this failure
+    * @param <T> the type of the object being tested
+    * @return whether the assertion passed
+    */
+   public <T> boolean assertThat(T actual, Matcher<? super T> matcher, String onFailureMessage)
+   {
+      long start = Instrumentation.start();
+      Result result = matcher.match(actual);
+      Instrumentation.record(matcher, start, result);
+      if(result.failed())
+      {
+         record(result, onFailureMessage);
+         return false;
+      }
+      return true;
+   }
+
+   /**
+    * Returns the failing {@code Result}s recorded so far, in order
+    * @return the failing {@code Result}s recorded so far
+    */
+   public synchronized List<Result> getFailures()
+   {
+      return Collections.unmodifiableList(new ArrayList<>(Arrays.asList(failures).subList(0, count)));
+   }
+
+   /**
+    * Returns the number of failures recorded so far
+    * @return the number of failures recorded so far
+    */
+   public synchronized int getFailureCount()
+   {
+      return count;
+   }
+
+   /**
+    * Throws an {@code AssertionError} describing every recorded failure, if
+    * there were any. If stack traces were captured, each failure is also
+    * attached to it as a suppressed {@code AssertionError} with the stack
+    * trace of where it happened.
+    * <p>
+    * The recorded failures are cleared as they're thrown, so closing again
+    * does nothing unless more failures were recorded since.</p>
+    */
+   @Override
+   public synchronized void close()
+   {
+      if(count == 0)
+         return;
+
+      StringBuilder builder = new StringBuilder();
+      builder.append(count).append(count == 1 ? " assertion failed" : " assertions failed");
+      for(int i = 0; i < count; i++)
+      {
+         builder.append("\n").append(i + 1).append(") ");
+         appendFailure(builder, i);
+      }
+      AssertionError error = new AssertionError(builder.toString());
+
+      if(traces != null)
+      {
+         for(int i = 0; i < count; i++)
+         {
+            AssertionError failure = new AssertionError(appendFailure(new StringBuilder(), i).toString());
+            failure.setStackTrace(traces[i].getStackTrace());
+            error.addSuppressed(failure);
+         }
+      }
+      clear();
+      throw error;
+   }
+
+   private StringBuilder appendFailure(StringBuilder builder, int i)
+   {
+      if(messages != null && messages[i] != null)
+         return builder.append(messages[i]);
+      else
+         return Assertions.appendMessage(builder, failures[i]);
+   }
+
+   private synchronized void record(Result result, String onFailureMessage)
+   {
+      if(count == failures.length)
+         grow();
+      failures[count] = result;
+      if(onFailureMessage != null)
+      {
+         if(messages == null)
+            messages = new String[failures.length];
+         messages[count] = onFailureMessage;
+      }
+      if(traces != null)
+         traces[count] = new Throwable();
+      count++;
+   }
+
+   private void clear()
+   {
+      Arrays.fill(failures, 0, count, null);
+      if(messages != null)
+         Arrays.fill(messages, 0, count, null);
+      if(traces != null)
+         Arrays.fill(traces, 0, count, null);
+      count = 0;
+   }
+
+   private void grow()
+   {
+      int length = failures.length * 2;
+      failures = Arrays.copyOf(failures, length);
+      if(messages != null)
+         messages = Arrays.copyOf(messages, length);
+      if(traces != null)
+         traces = Arrays.copyOf(traces, length);
+   }
+
+   private Result[] failures;
+   private String[] messages;
+   private Throwable[] traces;
+   private int count = 0;
+}
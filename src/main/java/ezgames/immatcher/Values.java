@@ -0,0 +1,214 @@
+package ezgames.immatcher;
+
+import java.lang.reflect.Array;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code Values} renders the values that go into {@link Result} messages.
+ * <p>
+ * Rendering is meant to happen inside the {@code Supplier}s of a lazy
+ * {@code Result}, so it only happens for failures whose messages are actually
+ * read, and a {@code Result} keeps what it rendered. The rendered text is also
+ * kept small:</p>
+ * <ul>
+ * <li>arrays, {@code Iterable}s and {@code Map}s are rendered element by
+ * element, but only the first {@link #MAX_ELEMENTS} of each, and a
+ * {@code Map.Entry} is rendered as its key and value, so that none of them
+ * has its whole {@code toString()} built,</li>
+ * <li>a {@code CharSequence}, such as a {@code StringBuilder}, is copied only
+ * as far as there's room for, rather than through its {@code toString()},</li>
+ * <li>the whole text is cut off at {@link #MAX_LENGTH} characters, and
+ * rendering stops as soon as it gets there,</li>
+ * <li>a container that contains itself is rendered as {@code (cycle)} instead
+ * of recursing forever, and</li>
+ * <li>any other value is rendered with its own {@code toString()}, which
+ * can't be stopped partway, and one that throws is reported rather than
+ * thrown.</li>
+ * </ul>
+ * <p>
+ * The limits can be set with the {@code immatcher.render.maxElements} and
+ * {@code immatcher.render.maxLength} system properties.</p>
+ */
+public final class Values
+{
+   /**
+    * How many elements of each array, {@code Iterable} or {@code Map} are
+    * rendered
+    */
+   public static final int MAX_ELEMENTS = Integer.getInteger("immatcher.render.maxElements", 20);
+
+   /**
+    * How many characters a rendered value can have
+    */
+   public static final int MAX_LENGTH = Integer.getInteger("immatcher.render.maxLength", 200);
+
+   /**
+    * Renders `value` for a message, within the limits described above.
+    * @param value the value to render
+    * @return the rendered value
+    */
+   public static String render(Object value)
+   {
+      Rendering rendering = new Rendering();
+      rendering.append(value);
+      return rendering.toString();
+   }
+
+   private Values() {}
+
+   private static final class Rendering
+   {
+      void append(Object value)
+      {
+         if(isFull())
+            return;
+         if(value == null)
+            text("null");
+         else if(value.getClass().isArray())
+            appendArray(value);
+         else if(value instanceof Map)
+            appendMap((Map<?, ?>)value);
+         else if(value instanceof Iterable)
+            appendIterable((Iterable<?>)value);
+         else if(value instanceof Map.Entry)
+            appendEntry((Map.Entry<?, ?>)value);
+         else if(value instanceof CharSequence)
+            text((CharSequence)value);
+         else
+            text(toString(value));
+      }
+
+      private void appendArray(Object array)
+      {
+         if(!enter(array))
+            return;
+         int length = Array.getLength(array);
+         builder.append('[');
+         for(int i = 0; i < length && !isFull(); i++)
+         {
+            if(i == MAX_ELEMENTS)
+            {
+               more(length - i);
+               break;
+            }
+            if(i > 0)
+               builder.append(", ");
+            append(Array.get(array, i));
+         }
+         builder.append(']');
+         leave(array);
+      }
+
+      private void appendIterable(Iterable<?> iterable)
+      {
+         if(!enter(iterable))
+            return;
+         builder.append('[');
+         Iterator<?> elements = iterable.iterator();
+         for(int i = 0; elements.hasNext() && !isFull(); i++)
+         {
+            if(i == MAX_ELEMENTS)
+            {
+               builder.append(", ...");
+               break;
+            }
+            if(i > 0)
+               builder.append(", ");
+            append(elements.next());
+         }
+         builder.append(']');
+         leave(iterable);
+      }
+
+      private void appendMap(Map<?, ?> map)
+      {
+         if(!enter(map))
+            return;
+         builder.append('{');
+         int i = 0;
+         for(Map.Entry<?, ?> entry : map.entrySet())
+         {
+            if(isFull())
+               break;
+            if(i == MAX_ELEMENTS)
+            {
+               more(map.size() - i);
+               break;
+            }
+            if(i++ > 0)
+               builder.append(", ");
+            appendEntry(entry);
+         }
+         builder.append('}');
+         leave(map);
+      }
+
+      private void appendEntry(Map.Entry<?, ?> entry)
+      {
+         append(entry.getKey());
+         builder.append('=');
+         append(entry.getValue());
+      }
+
+      /**
+       * Marks a container as being rendered, or renders {@code (cycle)} and
+       * returns false if it already is.
+       */
+      private boolean enter(Object container)
+      {
+         if(inProgress == null)
+            inProgress = Collections.newSetFromMap(new IdentityHashMap<>());
+         if(inProgress.add(container))
+            return true;
+         text("(cycle)");
+         return false;
+      }
+
+      private void leave(Object container)
+      {
+         inProgress.remove(container);
+      }
+
+      private void more(int count)
+      {
+         builder.append(", ...(").append(count).append(" more)");
+      }
+
+      private void text(CharSequence text)
+      {
+         builder.append(text, 0, Math.min(text.length(), MAX_LENGTH + 1 - Math.min(builder.length(), MAX_LENGTH + 1)));
+      }
+
+      private boolean isFull()
+      {
+         return builder.length() > MAX_LENGTH;
+      }
+
+      private static String toString(Object value)
+      {
+         try
+         {
+            return String.valueOf(value);
+         }
+         catch(RuntimeException e)
+         {
+            return "<" + value.getClass().getName() + ".toString() threw " + e + ">";
+         }
+      }
+
+      @Override
+      public String toString()
+      {
+         if(builder.length() <= MAX_LENGTH)
+            return builder.toString();
+         return builder.substring(0, MAX_LENGTH) + "...";
+      }
+
+      private final StringBuilder builder = new StringBuilder();
+      private Set<Object> inProgress;
+   }
+}
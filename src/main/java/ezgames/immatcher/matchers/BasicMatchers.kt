@@ -5,49 +5,30 @@ package ezgames.immatcher.matchers
 import ezgames.immatcher.*
 import ezgames.immatcher.Matcher
 import ezgames.immatcher.not
+import ezgames.immatcher.PreparedMatcher
 import ezgames.immatcher.Result
-import ezgames.immatcher.ResultBuilder
+import ezgames.immatcher.Values
+import java.util.function.Supplier
 
-class IsNull<in T> internal constructor() : Matcher<T?> {
-    override fun match(actual: T?): Result {
-        val result = ResultBuilder.withMessages("was Null", "wasn't Null")
-        if (actual == null)
-            return result.pass()
-        else
-            return result.fail()
+class IsNull<T> internal constructor() : PreparedMatcher<T?>("was Null", "wasn't Null"), Costed {
+    override fun matches(actual: T?): Boolean {
+        return actual == null
     }
 
-    override fun notMatches(actual: T?): Result {
-        val result = ResultBuilder.withMessages("wasn't Null", "was Null")
-        if (actual == null)
-            return result.fail()
-        else
-            return result.pass()
+    override fun getCost(): Long {
+        return Costed.CONSTANT
     }
 }
 
-class Equals<in T> internal constructor(private val obj: T) : Matcher<T> {
+class Equals<T> internal constructor(private val obj: T) :
+        PreparedMatcher<T>(Supplier { "equaled ${Values.render(obj)}" }, Supplier { "didn't equal ${Values.render(obj)}" }) {
 
-    private val expected: String
-
-    init {
-        this.expected = "equaled $obj"
-    }
-
-    override fun match(actual: T): Result {
-        val result = ResultBuilder.withMessages(expected, "equaled $actual")
-        if (obj == actual)
-            return result.pass()
-        else
-            return result.fail()
+    override fun matches(actual: T): Boolean {
+        return obj == actual
     }
 
-    override fun notMatches(actual: T): Result {
-        val result = ResultBuilder.withMessages("equaled $actual", expected)
-        if (obj == actual)
-            return result.fail()
-        else
-            return result.pass()
+    override fun failure(actual: T): Result {
+        return failedWith { "equaled ${Values.render(actual)}" }
     }
 }
 
@@ -0,0 +1,24 @@
+package ezgames.immatcher.matchers.arrays;
+
+import ezgames.immatcher.PreparedMatcher;
+
+/**
+ * Checks that an {@code int[]}, {@code long[]} or {@code byte[]} contains a
+ * value, with a plain scan of the array.
+ *
+ * @param <A> the type of array being tested
+ */
+public class ArrayContains<A> extends PreparedMatcher<A> {
+
+	ArrayContains(long value) {
+		super("contained " + value, "didn't contain " + value);
+		this.value = value;
+	}
+
+	@Override
+	protected boolean matches(A actual) {
+		return PrimitiveArrays.indexOf(actual, value) >= 0;
+	}
+
+	private final long value;
+}
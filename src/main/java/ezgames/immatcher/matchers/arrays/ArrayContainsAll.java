@@ -0,0 +1,38 @@
+package ezgames.immatcher.matchers.arrays;
+
+import ezgames.immatcher.PreparedMatcher;
+import ezgames.immatcher.Result;
+import ezgames.immatcher.Values;
+
+/**
+ * Checks that an {@code int[]}, {@code long[]} or {@code byte[]} contains all
+ * the given values, in any order.
+ * <p>
+ * The given values are put in a table when the matcher is made. Each match is
+ * one pass over the array that stops once every value has been found.</p>
+ *
+ * @param <A> the type of array being tested
+ */
+public class ArrayContainsAll<A> extends PreparedMatcher<A> {
+
+	ArrayContainsAll(Object contained) {
+		super(() -> "contained all of " + Values.render(contained), () -> "didn't contain all of " + Values.render(contained));
+		this.contained = new PrimitiveCounts(PrimitiveArrays.widen(contained));
+	}
+
+	@Override
+	public Result match(A actual) {
+		int[] remaining = contained.findIn(actual);
+		if(PrimitiveCounts.allZero(remaining))
+			return passed();
+		else
+			return failedWith(() -> "didn't contain " + contained.remainingIn(remaining));
+	}
+
+	@Override
+	protected boolean matches(A actual) {
+		return PrimitiveCounts.allZero(contained.findIn(actual));
+	}
+
+	private final PrimitiveCounts contained;
+}
@@ -0,0 +1,69 @@
+package ezgames.immatcher.matchers.arrays;
+
+import java.util.ArrayList;
+import java.util.List;
+import ezgames.immatcher.PreparedMatcher;
+import ezgames.immatcher.Result;
+import ezgames.immatcher.Values;
+
+/**
+ * Checks that an {@code int[]}, {@code long[]} or {@code byte[]} has the same
+ * values as the given one, regardless of order. Duplicates count, the same as
+ * with the collections package's {@code containsOnly()}.
+ * <p>
+ * The given values are counted when the matcher is made; each match ticks the
+ * array's values off a copy of those counts in one pass.</p>
+ *
+ * @param <A> the type of array being tested
+ */
+public class ArrayContainsOnly<A> extends PreparedMatcher<A> {
+
+	ArrayContainsOnly(Object contained) {
+		super(() -> "contained only " + Values.render(contained), () -> "didn't contain only " + Values.render(contained));
+		this.contained = new PrimitiveCounts(PrimitiveArrays.widen(contained));
+	}
+
+	@Override
+	public Result match(A actual) {
+		if(matches(actual))
+			return passed();
+		else
+			return failedWith(() -> describe(actual));
+	}
+
+	@Override
+	protected boolean matches(A actual) {
+		int[] remaining = contained.copyCounts();
+		return contained.tickOff(actual, remaining) == 0 && PrimitiveCounts.allZero(remaining);
+	}
+
+	/**
+	 * Works out what was missing and what was extra, only when the failure
+	 * message is read.
+	 */
+	private String describe(A actual) {
+		int[] remaining = contained.copyCounts();
+		contained.tickOff(actual, remaining);
+		List<Long> missing = contained.remainingIn(remaining);
+		List<Long> surplus = new ArrayList<>();
+		int length = PrimitiveArrays.length(actual);
+		for(int i = 0; i < length; i++) {
+			long value = PrimitiveArrays.get(actual, i);
+			int slot = contained.slotOf(value);
+			if(slot < 0 || remaining[slot] < 0) {
+				surplus.add(value);
+				if(slot >= 0)
+					remaining[slot]++;
+			}
+		}
+
+		if(surplus.isEmpty())
+			return "didn't contain " + missing;
+		else if(missing.isEmpty())
+			return "contained other elements too: " + surplus;
+		else
+			return "didn't contain " + missing + " and contained other elements too: " + surplus;
+	}
+
+	private final PrimitiveCounts contained;
+}
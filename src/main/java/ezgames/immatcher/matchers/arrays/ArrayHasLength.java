@@ -0,0 +1,42 @@
+package ezgames.immatcher.matchers.arrays;
+
+import java.lang.reflect.Array;
+import ezgames.immatcher.Costed;
+import ezgames.immatcher.PreparedMatcher;
+import ezgames.immatcher.Result;
+
+/**
+ * Checks the length of an array of any type.
+ *
+ * @param <A> the type of array being tested
+ */
+public class ArrayHasLength<A> extends PreparedMatcher<A> implements Costed {
+
+	ArrayHasLength(int length) {
+		super(MESSAGE_START + length, "did not have length of " + length);
+		this.length = length;
+	}
+
+	@Override
+	public Result match(A actual) {
+		int actualLength = Array.getLength(actual);
+		if(actualLength == length)
+			return passed();
+		else
+			return failedWith(() -> MESSAGE_START + actualLength);
+	}
+
+	@Override
+	protected boolean matches(A actual) {
+		return Array.getLength(actual) == length;
+	}
+
+	@Override
+	public long getCost() {
+		return CONSTANT;
+	}
+
+	private final int length;
+
+	private static final String MESSAGE_START = "had length of ";
+}
@@ -0,0 +1,56 @@
+package ezgames.immatcher.matchers.arrays;
+
+import java.util.Arrays;
+import ezgames.immatcher.PreparedMatcher;
+import ezgames.immatcher.Result;
+import ezgames.immatcher.Values;
+
+/**
+ * Checks that an {@code int[]}, {@code long[]} or {@code byte[]} has the same
+ * elements in the same order as the given one.
+ * <p>
+ * Matching uses {@code Arrays.equals()}, which the JVM compiles to a
+ * vectorized comparison. The index of the first difference is only looked for
+ * when a failure message is read.</p>
+ *
+ * @param <A> the type of array being tested
+ */
+public class ArrayIsEqualTo<A> extends PreparedMatcher<A> {
+
+	ArrayIsEqualTo(A expected) {
+		super(() -> "was equal to " + Values.render(expected), () -> "was not equal to " + Values.render(expected));
+		this.expected = expected;
+	}
+
+	@Override
+	public Result match(A actual) {
+		if(matches(actual))
+			return passed();
+		else
+			return failedWith(() -> describe(actual));
+	}
+
+	@Override
+	protected boolean matches(A actual) {
+		if(expected instanceof int[])
+			return Arrays.equals((int[])expected, (int[])actual);
+		if(expected instanceof long[])
+			return Arrays.equals((long[])expected, (long[])actual);
+		return Arrays.equals((byte[])expected, (byte[])actual);
+	}
+
+	private String describe(A actual) {
+		int expectedLength = PrimitiveArrays.length(expected);
+		int actualLength = PrimitiveArrays.length(actual);
+		int common = Math.min(expectedLength, actualLength);
+		for(int i = 0; i < common; i++) {
+			long expectedValue = PrimitiveArrays.get(expected, i);
+			long actualValue = PrimitiveArrays.get(actual, i);
+			if(expectedValue != actualValue)
+				return "had " + actualValue + " at index " + i + " instead of " + expectedValue;
+		}
+		return "had length of " + actualLength + " instead of " + expectedLength;
+	}
+
+	private final A expected;
+}
@@ -0,0 +1,190 @@
+package ezgames.immatcher.matchers.arrays;
+
+import static ezgames.immatcher.Matchers.not;
+
+import ezgames.immatcher.Matcher;
+
+/**
+ * {@code ArraysMatchers} contains methods for creating {@code Matcher}s for
+ * {@code int[]}, {@code long[]} and {@code byte[]}.
+ * <p>
+ * They work on the arrays directly instead of wrapping them in a
+ * {@code List}, so no element is ever boxed and a match allocates nothing per
+ * element.</p>
+ */
+public class ArraysMatchers {
+	/**
+	 * Returns a {@code Matcher} that checks that the array of objects under
+	 * test has the given length.
+	 * @param length - the expected length
+	 * @return a {@code Matcher} that checks for a certain length
+	 */
+	public static <T> Matcher<T[]> hasLength(int length) {
+		return new ArrayHasLength<>(length);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the array under test has the
+	 * given length. It works with arrays of any type, including primitive
+	 * ones, such as {@code hasLength(int[].class, 3)}.
+	 * @param arrayType - the type of array to be tested
+	 * @param length - the expected length
+	 * @return a {@code Matcher} that checks for a certain length
+	 * @throws IllegalArgumentException if {@code arrayType} isn't an array type
+	 */
+	public static <A> Matcher<A> hasLength(Class<A> arrayType, int length) {
+		if(!arrayType.isArray())
+			throw new IllegalArgumentException(arrayType.getName() + " is not an array type");
+		return new ArrayHasLength<>(length);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the {@code int[]} under test
+	 * contains the given value.
+	 * @param value - the value to look for
+	 * @return a {@code Matcher} that looks for 'value'
+	 */
+	public static Matcher<int[]> contains(int value) {
+		return new ArrayContains<>(value);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the {@code long[]} under test
+	 * contains the given value.
+	 * @param value - the value to look for
+	 * @return a {@code Matcher} that looks for 'value'
+	 */
+	public static Matcher<long[]> contains(long value) {
+		return new ArrayContains<>(value);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the {@code byte[]} under test
+	 * contains the given value.
+	 * @param value - the value to look for
+	 * @return a {@code Matcher} that looks for 'value'
+	 */
+	public static Matcher<byte[]> contains(byte value) {
+		return new ArrayContains<>(value);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the {@code int[]} under test
+	 * does not contain the given value.
+	 * @param value - the value to make sure isn't in the array
+	 * @return a {@code Matcher} that checks that 'value' isn't in the array
+	 */
+	public static Matcher<int[]> doesNotContain(int value) {
+		return not(contains(value));
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the {@code long[]} under test
+	 * does not contain the given value.
+	 * @param value - the value to make sure isn't in the array
+	 * @return a {@code Matcher} that checks that 'value' isn't in the array
+	 */
+	public static Matcher<long[]> doesNotContain(long value) {
+		return not(contains(value));
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the {@code byte[]} under test
+	 * does not contain the given value.
+	 * @param value - the value to make sure isn't in the array
+	 * @return a {@code Matcher} that checks that 'value' isn't in the array
+	 */
+	public static Matcher<byte[]> doesNotContain(byte value) {
+		return not(contains(value));
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the {@code int[]} under test
+	 * contains all of the given values, in any order.
+	 * @param values - the values that should all be in the array
+	 * @return a {@code Matcher} that looks for all of 'values'
+	 */
+	public static Matcher<int[]> containsAll(int... values) {
+		return new ArrayContainsAll<>(values);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the {@code long[]} under test
+	 * contains all of the given values, in any order.
+	 * @param values - the values that should all be in the array
+	 * @return a {@code Matcher} that looks for all of 'values'
+	 */
+	public static Matcher<long[]> containsAll(long... values) {
+		return new ArrayContainsAll<>(values);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the {@code byte[]} under test
+	 * contains all of the given values, in any order.
+	 * @param values - the values that should all be in the array
+	 * @return a {@code Matcher} that looks for all of 'values'
+	 */
+	public static Matcher<byte[]> containsAll(byte... values) {
+		return new ArrayContainsAll<>(values);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the {@code int[]} under test
+	 * has exactly the given values, in any order.
+	 * @param values - the values that should be the only ones in the array
+	 * @return a {@code Matcher} that checks for only 'values'
+	 */
+	public static Matcher<int[]> containsOnly(int... values) {
+		return new ArrayContainsOnly<>(values);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the {@code long[]} under test
+	 * has exactly the given values, in any order.
+	 * @param values - the values that should be the only ones in the array
+	 * @return a {@code Matcher} that checks for only 'values'
+	 */
+	public static Matcher<long[]> containsOnly(long... values) {
+		return new ArrayContainsOnly<>(values);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the {@code byte[]} under test
+	 * has exactly the given values, in any order.
+	 * @param values - the values that should be the only ones in the array
+	 * @return a {@code Matcher} that checks for only 'values'
+	 */
+	public static Matcher<byte[]> containsOnly(byte... values) {
+		return new ArrayContainsOnly<>(values);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the {@code int[]} under test
+	 * has the same elements in the same order as the given one.
+	 * @param expected - the array to compare with
+	 * @return a {@code Matcher} that checks for equality
+	 */
+	public static Matcher<int[]> isEqualTo(int[] expected) {
+		return new ArrayIsEqualTo<>(expected);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the {@code long[]} under test
+	 * has the same elements in the same order as the given one.
+	 * @param expected - the array to compare with
+	 * @return a {@code Matcher} that checks for equality
+	 */
+	public static Matcher<long[]> isEqualTo(long[] expected) {
+		return new ArrayIsEqualTo<>(expected);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the {@code byte[]} under test
+	 * has the same elements in the same order as the given one.
+	 * @param expected - the array to compare with
+	 * @return a {@code Matcher} that checks for equality
+	 */
+	public static Matcher<byte[]> isEqualTo(byte[] expected) {
+		return new ArrayIsEqualTo<>(expected);
+	}
+}
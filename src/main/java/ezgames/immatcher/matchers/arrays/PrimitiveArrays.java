@@ -0,0 +1,73 @@
+package ezgames.immatcher.matchers.arrays;
+
+/**
+ * Helpers for reading and describing {@code int[]}, {@code long[]} and
+ * {@code byte[]} without boxing their elements. Elements are widened to
+ * {@code long}, which holds all three exactly.
+ */
+final class PrimitiveArrays {
+
+	static int length(Object array) {
+		if(array instanceof int[])
+			return ((int[])array).length;
+		if(array instanceof long[])
+			return ((long[])array).length;
+		return ((byte[])array).length;
+	}
+
+	/**
+	 * Returns the index of the first element equal to {@code value}, or -1.
+	 */
+	static int indexOf(Object array, long value) {
+		if(array instanceof int[]) {
+			int[] ints = (int[])array;
+			for(int i = 0; i < ints.length; i++)
+				if(ints[i] == value)
+					return i;
+		}
+		else if(array instanceof long[]) {
+			long[] longs = (long[])array;
+			for(int i = 0; i < longs.length; i++)
+				if(longs[i] == value)
+					return i;
+		}
+		else {
+			byte[] bytes = (byte[])array;
+			for(int i = 0; i < bytes.length; i++)
+				if(bytes[i] == value)
+					return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns every element of the array in a {@code long[]}, for counting.
+	 * Only used when making matchers, never when matching.
+	 */
+	static long[] widen(Object array) {
+		long[] values = new long[length(array)];
+		if(array instanceof int[]) {
+			int[] ints = (int[])array;
+			for(int i = 0; i < ints.length; i++)
+				values[i] = ints[i];
+		}
+		else if(array instanceof long[])
+			System.arraycopy(array, 0, values, 0, values.length);
+		else {
+			byte[] bytes = (byte[])array;
+			for(int i = 0; i < bytes.length; i++)
+				values[i] = bytes[i];
+		}
+		return values;
+	}
+
+	static long get(Object array, int index) {
+		if(array instanceof int[])
+			return ((int[])array)[index];
+		if(array instanceof long[])
+			return ((long[])array)[index];
+		return ((byte[])array)[index];
+	}
+
+	private PrimitiveArrays() {}
+}
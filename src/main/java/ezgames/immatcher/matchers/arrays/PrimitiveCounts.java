@@ -0,0 +1,134 @@
+package ezgames.immatcher.matchers.arrays;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts of {@code long} values in an open-addressing table, the primitive
+ * counterpart of the collections package's {@code ElementCounts}.
+ * <p>
+ * The table is filled once, when a matcher is made. Matches look values up
+ * without boxing or allocating, and tick them off in a copy of the counts
+ * from {@link #copyCounts()}.</p>
+ */
+final class PrimitiveCounts {
+
+	PrimitiveCounts(long[] values) {
+		int capacity = Integer.highestOneBit(Math.max(values.length, 1) * 2 - 1) << 1;
+		keys = new long[capacity];
+		counts = new int[capacity];
+		order = new int[values.length];
+		mask = capacity - 1;
+		for(long value : values)
+			add(value);
+	}
+
+	/**
+	 * Returns the slot of {@code value}, or -1 if it wasn't counted.
+	 */
+	int slotOf(long value) {
+		for(int slot = hash(value); counts[slot] != 0; slot = (slot + 1) & mask)
+			if(keys[slot] == value)
+				return slot;
+		return -1;
+	}
+
+	/** Returns how many distinct values were counted. */
+	int distinct() {
+		return distinct;
+	}
+
+	/** Returns the slot of the {@code i}th distinct value to be counted. */
+	int slotAt(int i) {
+		return order[i];
+	}
+
+	/** Returns the value in a slot. */
+	long valueAt(int slot) {
+		return keys[slot];
+	}
+
+	/** Returns a copy of the counts, indexed by slot, to tick values off in. */
+	int[] copyCounts() {
+		return counts.clone();
+	}
+
+	/**
+	 * Returns the values of the slots whose count in {@code remaining} is
+	 * above zero, in the order they were first counted.
+	 */
+	List<Long> remainingIn(int[] remaining) {
+		List<Long> values = new ArrayList<>();
+		for(int i = 0; i < distinct; i++)
+			if(remaining[order[i]] > 0)
+				values.add(keys[order[i]]);
+		return values;
+	}
+
+	/**
+	 * Returns the counts with every value that's in {@code array} zeroed,
+	 * stopping as soon as they all have been.
+	 */
+	int[] findIn(Object array) {
+		int[] remaining = copyCounts();
+		int left = distinct;
+		int length = PrimitiveArrays.length(array);
+		for(int i = 0; i < length && left > 0; i++) {
+			int slot = slotOf(PrimitiveArrays.get(array, i));
+			if(slot >= 0 && remaining[slot] > 0) {
+				remaining[slot] = 0;
+				left--;
+			}
+		}
+		return remaining;
+	}
+
+	/**
+	 * Decrements the count in {@code remaining} of each element of
+	 * {@code array}, returning how many elements weren't counted at all.
+	 */
+	int tickOff(Object array, int[] remaining) {
+		int extra = 0;
+		int length = PrimitiveArrays.length(array);
+		for(int i = 0; i < length; i++) {
+			int slot = slotOf(PrimitiveArrays.get(array, i));
+			if(slot >= 0)
+				remaining[slot]--;
+			else
+				extra++;
+		}
+		return extra;
+	}
+
+	static boolean allZero(int[] remaining) {
+		for(int count : remaining)
+			if(count != 0)
+				return false;
+		return true;
+	}
+
+	private void add(long value) {
+		int slot = hash(value);
+		while(counts[slot] != 0) {
+			if(keys[slot] == value) {
+				counts[slot]++;
+				return;
+			}
+			slot = (slot + 1) & mask;
+		}
+		keys[slot] = value;
+		counts[slot] = 1;
+		order[distinct++] = slot;
+	}
+
+	private int hash(long value) {
+		long hash = value * 0x9E3779B97F4A7C15L;
+		return (int)(hash ^ hash >>> 32) & mask;
+	}
+
+	private final long[] keys;
+	private final int[] counts;
+	private final int[] order;
+	private final int mask;
+	private int distinct = 0;
+}
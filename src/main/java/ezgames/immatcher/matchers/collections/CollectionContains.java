@@ -2,35 +2,33 @@ package ezgames.immatcher.matchers.collections;
 
 import java.util.Collection;
 
-import ezgames.immatcher.Matcher;
-import ezgames.immatcher.Result;
-import ezgames.immatcher.ResultBuilder;
+import ezgames.immatcher.Costed;
+import ezgames.immatcher.PreparedMatcher;
+import ezgames.immatcher.Values;
 
-public class CollectionContains implements Matcher<Collection<?>> {
+public class CollectionContains extends PreparedMatcher<Collection<?>> implements Costed {
 
 	public static CollectionContains contains(Object object)
 	{
 		return new CollectionContains(object);
 	}
 	
-	public Result match(Collection<?> actual)
+	@Override
+	protected boolean matches(Collection<?> actual)
 	{
-		ResultBuilder result = ResultBuilder.withMessages(expected, onFailure);
-		
-		if(actual.contains(object))
-			return result.pass();
-		else
-			return result.fail();
+		return actual.contains(object);
+	}
+
+	@Override
+	public long getCost() {
+		return LINEAR;
 	}
 	
 	CollectionContains(Object object)
 	{
+		super(() -> "contained " + Values.render(object), () -> "didn't contain " + Values.render(object));
 		this.object = object;
-		this.expected = "contained " + object.toString();
-		this.onFailure = "didn't contain " + object.toString();
 	}
 
-	private Object object;
-	private String expected;
-	private String onFailure;
+	private final Object object;
 }
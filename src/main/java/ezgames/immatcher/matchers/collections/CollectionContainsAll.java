@@ -3,32 +3,41 @@ package ezgames.immatcher.matchers.collections;
 import static ezgames.immatcher.Matchers.not;
 
 import java.util.Collection;
+import ezgames.immatcher.Costed;
 import ezgames.immatcher.Matcher;
+import ezgames.immatcher.PreparedMatcher;
 import ezgames.immatcher.Result;
-import ezgames.immatcher.ResultBuilder;
 
-public class CollectionContainsAll implements Matcher<Collection<?>> {
+public class CollectionContainsAll extends PreparedMatcher<Collection<?>> implements Costed {
 
 	public static Matcher<Collection<?>> containsAll(Collection<?> contained) {
 		return new CollectionContainsAll(contained);
 	}
-	
+
 	public static Matcher<Collection<?>> doesNotContainAll(Collection<?> contained) {
-		return INSTANCE.not(containsAll(contained));
+		return not(containsAll(contained));
+	}
+
+	@Override
+	protected boolean matches(Collection<?> actual) {
+		return contained.allIn(actual);
+	}
+
+	@Override
+	protected Result failure(Collection<?> actual) {
+		Diff.Entries missing = contained.missingFrom(actual);
+		return failedWith(() -> "didn't contain " + missing);
 	}
-	
-	public Result match(Collection<?> actual) {
-		if(actual.containsAll(contained))
-			return result.pass();
-		else
-			return result.fail();
+
+	@Override
+	public long getCost() {
+		return LINEAR;
 	}
-	
-	private final Collection<?> contained;
-	private final ResultBuilder result = ResultBuilder.withMessages("contained all given elements", "didn't contain all the given elements");
-	
-	
+
+	private final ElementCounts contained;
+
 	CollectionContainsAll(Collection<?> contained) {
-		this.contained = contained;
+		super("contained all given elements", "didn't contain all given elements");
+		this.contained = new ElementCounts(contained);
 	}
 }
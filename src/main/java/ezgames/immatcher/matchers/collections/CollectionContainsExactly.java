@@ -0,0 +1,48 @@
+package ezgames.immatcher.matchers.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import ezgames.immatcher.Costed;
+import ezgames.immatcher.Matcher;
+import ezgames.immatcher.PreparedMatcher;
+import ezgames.immatcher.Result;
+
+/**
+ * Checks that a {@code List} has the same elements as the given one, in the
+ * same order.
+ * <p>
+ * Matching is a plain {@code equals()}. If the failure message is read, it
+ * lists the elements to remove and insert to get from the given {@code List}
+ * to the tested one, as worked out by {@link Diff#editScript(List, List)}.</p>
+ */
+public class CollectionContainsExactly extends PreparedMatcher<List<?>> implements Costed {
+
+	public static Matcher<List<?>> containsExactly(List<?> contained) {
+		return new CollectionContainsExactly(contained);
+	}
+
+	@Override
+	public Result match(List<?> actual) {
+		if(matches(actual))
+			return passed();
+		else
+			return failedWith(() -> Diff.editScript(contained, actual));
+	}
+
+	@Override
+	protected boolean matches(List<?> actual) {
+		return contained.equals(actual);
+	}
+
+	@Override
+	public long getCost() {
+		return LINEAR;
+	}
+
+	private final List<?> contained;
+
+	CollectionContainsExactly(List<?> contained) {
+		super("contained exactly the given elements in order", "didn't contain exactly the given elements in order");
+		this.contained = new ArrayList<>(contained);
+	}
+}
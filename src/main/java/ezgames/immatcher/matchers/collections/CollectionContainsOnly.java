@@ -1,30 +1,100 @@
 package ezgames.immatcher.matchers.collections;
 
 import java.util.Collection;
+import ezgames.immatcher.Costed;
 import ezgames.immatcher.Matcher;
+import ezgames.immatcher.PreparedMatcher;
 import ezgames.immatcher.Result;
 
-public class CollectionContainsOnly implements Matcher<Collection<?>> {
+/**
+ * Checks that a {@code Collection} has the same elements as the given one,
+ * regardless of order. Duplicates count: {@code [1, 1, 2]} only matches a
+ * {@code Collection} with two 1s and one 2.
+ * <p>
+ * The given elements are counted once, when the matcher is made. Each match
+ * copies those counts and ticks off the tested {@code Collection}'s elements in
+ * a single pass, so a match is O(n+m).</p>
+ */
+public class CollectionContainsOnly extends PreparedMatcher<Collection<?>> implements Costed {
 
 	public static Matcher<Collection<?>> containsOnly(Collection<?> contained) {
 		return new CollectionContainsOnly(contained);
 	}
-	
+
 	@Override
 	public Result match(Collection<?> actual) {
-		if(actual.containsAll(contained))
-			if(actual.size() == contained.size())
-				return new Result(false, expected, "didn't contain only the given elements");
-			else
-				return new Result(false, expected, "contained other elements too");
+		int[] remaining = contained.copyCounts();
+		ElementCounts extra = tickOff(actual, remaining);
+		if(extra == null && allTickedOff(remaining))
+			return passed();
+		else
+			return failedWith(() -> describe(remaining, extra));
+	}
+
+	@Override
+	protected boolean matches(Collection<?> actual) {
+		int[] remaining = contained.copyCounts();
+		return tickOff(actual, remaining) == null && allTickedOff(remaining);
+	}
+
+	@Override
+	public long getCost() {
+		return LINEAR;
+	}
+
+	/**
+	 * Decrements the count in {@code remaining} of each element of
+	 * {@code actual}, returning the counts of any elements that weren't
+	 * expected at all, or {@code null} if there weren't any.
+	 */
+	private ElementCounts tickOff(Collection<?> actual, int[] remaining) {
+		ElementCounts extra = null;
+		for(Object element : actual) {
+			int slot = contained.slotOf(element);
+			if(slot >= 0)
+				remaining[slot]--;
+			else {
+				if(extra == null)
+					extra = new ElementCounts(8);
+				extra.add(element, 1);
+			}
+		}
+		return extra;
+	}
+
+	private boolean allTickedOff(int[] remaining) {
+		for(int count : remaining)
+			if(count != 0)
+				return false;
+		return true;
+	}
+
+	private String describe(int[] remaining, ElementCounts extra) {
+		Diff.Entries missing = new Diff.Entries();
+		Diff.Entries surplus = new Diff.Entries();
+		for(int i = 0; i < contained.distinct(); i++) {
+			int slot = contained.slotAt(i);
+			if(remaining[slot] > 0)
+				missing.add(contained.elementAt(slot), remaining[slot]);
+			else if(remaining[slot] < 0)
+				surplus.add(contained.elementAt(slot), -remaining[slot]);
+		}
+		if(extra != null)
+			for(int i = 0; i < extra.distinct(); i++)
+				surplus.add(extra.elementAt(extra.slotAt(i)), extra.countAt(extra.slotAt(i)));
+
+		if(surplus.isEmpty())
+			return "didn't contain " + missing;
+		else if(missing.isEmpty())
+			return "contained other elements too: " + surplus;
 		else
-			return new Result(false, expected, "didn't contain all of the elements");
+			return "didn't contain " + missing + " and contained other elements too: " + surplus;
 	}
 
 	private CollectionContainsOnly(Collection<?> contained) {
-		this.contained = contained;
+		super("contained only the given elements", "didn't contain only the given elements");
+		this.contained = new ElementCounts(contained);
 	}
 
-	private final Collection<?> contained;
-	private final String expected = "contained only the given elements";
+	private final ElementCounts contained;
 }
@@ -2,11 +2,11 @@ package ezgames.immatcher.matchers.collections;
 
 import java.util.Collection;
 
-import ezgames.immatcher.Matcher;
+import ezgames.immatcher.Costed;
+import ezgames.immatcher.PreparedMatcher;
 import ezgames.immatcher.Result;
-import ezgames.immatcher.ResultBuilder;
 
-public class CollectionIsEmpty implements Matcher<Collection<?>> {
+public class CollectionIsEmpty extends PreparedMatcher<Collection<?>> implements Costed {
 
 	public static CollectionIsEmpty isEmpty()
 	{
@@ -14,17 +14,22 @@ public class CollectionIsEmpty implements Matcher<Collection<?>> {
 	}
 	
 	@Override
-	public Result match(Collection<?> actual) {
-		ResultBuilder result = ResultBuilder.withMessages(expected, String.format(actualFormat, actual.size()));
-		if(actual.isEmpty())
-			return result.pass();
-		else
-			return result.fail();
+	protected boolean matches(Collection<?> actual) {
+		return actual.isEmpty();
+	}
+
+	@Override
+	public long getCost() {
+		return CONSTANT;
 	}
-	
-	CollectionIsEmpty() {}
-	
-	private static final String expected = "was empty";
-	private static final String actualFormat = "had %d elements";
 
+	@Override
+	protected Result failure(Collection<?> actual) {
+		int size = actual.size();
+		return failedWith(() -> "had " + size + " elements");
+	}
+	
+	CollectionIsEmpty() {
+		super("was empty", "was not empty");
+	}
 }
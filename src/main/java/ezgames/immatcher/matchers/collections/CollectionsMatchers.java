@@ -3,11 +3,16 @@ package ezgames.immatcher.matchers.collections;
 import static ezgames.immatcher.Matchers.*;
 
 import java.util.Collection;
+import java.util.List;
 import ezgames.immatcher.Matcher;
 
 /**
  * {@code CollectionsMatchers} contains methods for creating {@code Matcher}s
  * specifically used with {@code Collection}s. 
+ * <p>
+ * When one of them fails, its message says how the {@code Collection}s
+ * differ, listing at most 20 differences; the {@code immatcher.diff.maxEntries}
+ * system property changes that limit.</p>
  */
 public class CollectionsMatchers {
 	/**
@@ -20,7 +25,7 @@ public class CollectionsMatchers {
 	 * A {@code Matcher} that tests that the {@code Collection} under
 	 * test is not empty.
 	 */
-	public static Matcher<Collection<?>> isNotEmpty = INSTANCE.invert(isEmpty, "was not empty");
+	public static Matcher<Collection<?>> isNotEmpty = not(isEmpty);
 	
 	/**
 	 * Returns a {@code Matcher} that tests that the {@code Collection} under
@@ -40,7 +45,7 @@ public class CollectionsMatchers {
 	 * {@code Collection}
 	 */
 	public static Matcher<Collection<?>> doesNotContain(Object object){
-		return INSTANCE.not(contains(object));
+		return not(contains(object));
 	}
 	
 	/**
@@ -64,7 +69,7 @@ public class CollectionsMatchers {
 	 * {@code Collection} are not in the {@code Collection} under test
 	 */
 	public static Matcher<Collection<?>> doesNotContainAll(Collection<?> contained) {
-		return INSTANCE.not(containsAll(contained));
+		return not(containsAll(contained));
 	}
 	
 	/**
@@ -78,4 +83,16 @@ public class CollectionsMatchers {
 	public static Matcher<Collection<?>> containsOnly(Collection<?> contained) {
 		return CollectionContainsOnly.containsOnly(contained);
 	}
+	
+	/**
+	 * Returns a {@code Matcher} that tests that the {@code List} under test
+	 * contains exactly the elements in the given {@code List}, in the same order.
+	 * On a failure, the message lists the elements that were removed from and
+	 * inserted into the given {@code List}.
+	 * @param contained - the elements the tested {@code List} should have, in order
+	 * @return a {@code Matcher} that compares the {@code List}s in order
+	 */
+	public static Matcher<List<?>> containsExactly(List<?> contained) {
+		return CollectionContainsExactly.containsExactly(contained);
+	}
 }
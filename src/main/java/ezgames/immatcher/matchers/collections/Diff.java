@@ -0,0 +1,275 @@
+package ezgames.immatcher.matchers.collections;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import ezgames.immatcher.Values;
+
+/**
+ * {@code Diff} works out how the tested {@code Collection} differs from the
+ * expected one, for the failure messages of the collection matchers. It's
+ * only ever run when a failure message is read.
+ * <p>
+ * For unordered matchers, the difference is the elements that were missing
+ * and the ones that were extra, collected in {@link Entries}. For ordered
+ * {@code List}s, it's an edit script of the elements to remove from and insert
+ * into the expected {@code List} to get the tested one, found with Myers'
+ * algorithm in O((n+m)&middot;d) time and linear space, where d is the number
+ * of edits.</p>
+ * <p>
+ * Either way, only the first {@link #MAX_ENTRIES} entries are listed, so a
+ * million differences don't make a million-line message. That limit can be
+ * set with the {@code immatcher.diff.maxEntries} system property. An edit
+ * script also gives up if the part of the {@code List}s it's working on needs
+ * more than {@link #MAX_DISTANCE} edits, since by then a list of edits says
+ * less than where the {@code List}s start to differ.</p>
+ */
+final class Diff {
+
+	static final int MAX_ENTRIES = Integer.getInteger("immatcher.diff.maxEntries", 20);
+	static final int MAX_DISTANCE = 2_000;
+
+	/**
+	 * Returns a message listing the edits that turn {@code expected} into
+	 * {@code actual}: {@code -[i] x} for removing the element at index i of
+	 * {@code expected}, and {@code +[j] y} for inserting the element at index j
+	 * of {@code actual}.
+	 */
+	static String editScript(List<?> expected, List<?> actual) {
+		EditScript script = new EditScript(expected.toArray(), actual.toArray());
+		if(script.diff(0, script.a.length, 0, script.b.length))
+			return script.toString();
+
+		int first = 0;
+		while(first < script.a.length && first < script.b.length && Objects.equals(script.a[first], script.b[first]))
+			first++;
+		return "differed in more than " + MAX_DISTANCE + " places, starting at index " + first;
+	}
+
+	private Diff() {}
+
+	/**
+	 * A list of elements that keeps only the first {@link #MAX_ENTRIES}
+	 * entries, but counts them all. The elements are kept as they are and only
+	 * rendered by {@link #toString()}.
+	 */
+	static final class Entries {
+
+		void add(Object element) {
+			add(element, 1);
+		}
+
+		/**
+		 * Adds an element that occurred {@code count} times.
+		 */
+		void add(Object element, int count) {
+			if(total < MAX_ENTRIES) {
+				if(elements == null) {
+					elements = new Object[Math.min(4, MAX_ENTRIES)];
+					counts = new int[elements.length];
+				}
+				else if(total == elements.length) {
+					elements = Arrays.copyOf(elements, Math.min(total * 2, MAX_ENTRIES));
+					counts = Arrays.copyOf(counts, elements.length);
+				}
+				elements[total] = element;
+				counts[total] = count;
+			}
+			total++;
+		}
+
+		boolean isEmpty() {
+			return total == 0;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder builder = new StringBuilder("[");
+			for(int i = 0; i < total && i < MAX_ENTRIES; i++) {
+				if(i > 0)
+					builder.append(", ");
+				builder.append(Values.render(elements[i]));
+				if(counts[i] != 1)
+					builder.append(" (x").append(counts[i]).append(')');
+			}
+			if(total > MAX_ENTRIES)
+				builder.append(", ...and ").append(total - MAX_ENTRIES).append(" more");
+			return builder.append(']').toString();
+		}
+
+		private Object[] elements;
+		private int[] counts;
+		private int total = 0;
+	}
+
+	/**
+	 * Myers' linear-space diff: each step finds the point where the forward
+	 * and backward searches for the shortest edit script meet, then diffs the
+	 * halves on either side of it. The halves are diffed in order, so edits
+	 * come out in order and the search can stop once enough are listed.
+	 */
+	private static final class EditScript {
+
+		EditScript(Object[] a, Object[] b) {
+			this.a = a;
+			this.b = b;
+		}
+
+		/**
+		 * Lists the edits between {@code a[aStart, aEnd)} and
+		 * {@code b[bStart, bEnd)}, returning false if there were too many to
+		 * search for.
+		 */
+		boolean diff(int aStart, int aEnd, int bStart, int bEnd) {
+			while(aStart < aEnd && bStart < bEnd && Objects.equals(a[aStart], b[bStart])) {
+				aStart++;
+				bStart++;
+			}
+			while(aStart < aEnd && bStart < bEnd && Objects.equals(a[aEnd - 1], b[bEnd - 1])) {
+				aEnd--;
+				bEnd--;
+			}
+
+			if(isFull()) {
+				truncated |= aStart < aEnd || bStart < bEnd;
+				return true;
+			}
+			if(aStart == aEnd) {
+				for(int j = bStart; j < bEnd && !truncated; j++)
+					insert(j);
+				return true;
+			}
+			if(bStart == bEnd) {
+				for(int i = aStart; i < aEnd && !truncated; i++)
+					remove(i);
+				return true;
+			}
+
+			long split = middle(aStart, aEnd, bStart, bEnd);
+			if(split == TOO_FAR)
+				return false;
+			if(split == NOTHING_IN_COMMON) {
+				for(int i = aStart; i < aEnd && !truncated; i++)
+					remove(i);
+				for(int j = bStart; j < bEnd && !truncated; j++)
+					insert(j);
+				return true;
+			}
+			int x = (int)(split >>> 32);
+			int y = (int)split;
+			return diff(aStart, aStart + x, bStart, bStart + y) && diff(aStart + x, aEnd, bStart + y, bEnd);
+		}
+
+		/**
+		 * Returns where the forward and backward searches overlap, relative to
+		 * the starts, with x in the high half of the {@code long} and y in the
+		 * low half. Returns {@link #TOO_FAR} if the shortest script between the
+		 * ranges needs more than {@link #MAX_DISTANCE} edits, or
+		 * {@link #NOTHING_IN_COMMON} if the searches never met.
+		 */
+		private long middle(int aStart, int aEnd, int bStart, int bEnd) {
+			int n = aEnd - aStart;
+			int m = bEnd - bStart;
+			// each search goes d edits from its end, so together they cover
+			// scripts of up to 2 * (maxD - 1) edits
+			int maxD = Math.min((n + m + 1) / 2, MAX_DISTANCE / 2 + 1);
+			boolean capped = maxD < (n + m + 1) / 2;
+			int offset = maxD + 1;
+			int[] forward = new int[2 * offset + 1];
+			int[] backward = new int[2 * offset + 1];
+			Arrays.fill(forward, -1);
+			Arrays.fill(backward, -1);
+			forward[offset + 1] = 0;
+			backward[offset + 1] = 0;
+			int delta = n - m;
+			boolean odd = (delta & 1) != 0;
+			int kStart = 0, kEnd = 0, k2Start = 0, k2End = 0;
+
+			for(int d = 0; d < maxD; d++) {
+				for(int k = -d + kStart; k <= d - kEnd; k += 2) {
+					int x = k == -d || (k != d && forward[offset + k - 1] < forward[offset + k + 1])
+							? forward[offset + k + 1]
+							: forward[offset + k - 1] + 1;
+					int y = x - k;
+					while(x < n && y < m && Objects.equals(a[aStart + x], b[bStart + y])) {
+						x++;
+						y++;
+					}
+					forward[offset + k] = x;
+					if(x > n)
+						kEnd += 2;
+					else if(y > m)
+						kStart += 2;
+					else if(odd) {
+						int k2 = offset + delta - k;
+						if(k2 >= 0 && k2 < backward.length && backward[k2] != -1 && x >= n - backward[k2])
+							return (long)x << 32 | y;
+					}
+				}
+				for(int k = -d + k2Start; k <= d - k2End; k += 2) {
+					int x = k == -d || (k != d && backward[offset + k - 1] < backward[offset + k + 1])
+							? backward[offset + k + 1]
+							: backward[offset + k - 1] + 1;
+					int y = x - k;
+					while(x < n && y < m && Objects.equals(a[aEnd - x - 1], b[bEnd - y - 1])) {
+						x++;
+						y++;
+					}
+					backward[offset + k] = x;
+					if(x > n)
+						k2End += 2;
+					else if(y > m)
+						k2Start += 2;
+					else if(!odd) {
+						int k1 = offset + delta - k;
+						if(k1 >= 0 && k1 < forward.length && forward[k1] != -1) {
+							int x1 = forward[k1];
+							int y1 = offset + x1 - k1;
+							if(x1 >= n - x)
+								return (long)x1 << 32 | y1;
+						}
+					}
+				}
+			}
+			return capped ? TOO_FAR : NOTHING_IN_COMMON;
+		}
+
+		private boolean isFull() {
+			return listed >= MAX_ENTRIES;
+		}
+
+		private void remove(int i) {
+			add('-', i, a[i]);
+		}
+
+		private void insert(int j) {
+			add('+', j, b[j]);
+		}
+
+		private void add(char edit, int index, Object element) {
+			if(isFull()) {
+				truncated = true;
+				return;
+			}
+			builder.append('\n').append(edit).append('[').append(index).append("] ").append(Values.render(element));
+			listed++;
+		}
+
+		@Override
+		public String toString() {
+			String edits = builder.toString();
+			if(truncated)
+				edits += "\n...(only the first " + MAX_ENTRIES + " differences are shown)";
+			return "differed by:" + edits;
+		}
+
+		private static final long TOO_FAR = -1;
+		private static final long NOTHING_IN_COMMON = -2;
+
+		final Object[] a;
+		final Object[] b;
+		private final StringBuilder builder = new StringBuilder();
+		private int listed = 0;
+		private boolean truncated = false;
+	}
+}
@@ -0,0 +1,190 @@
+package ezgames.immatcher.matchers.collections;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@code ElementCounts} counts the occurrences of each distinct element of a
+ * {@code Collection}. It's built once by a matcher and then reused for every
+ * {@code Collection} that it's matched against.
+ * <p>
+ * The counts are kept in an open-addressed hash table with the counts in a
+ * plain {@code int[]}, so counting allocates nothing per element, and a
+ * matcher can take a copy of the counts and tick elements off of it in a
+ * single pass over the tested {@code Collection}. Each distinct element has a
+ * "slot" in the table, which is what {@link #slotOf(Object)} returns.</p>
+ * <p>
+ * This class is not thread-safe while it's being built, but matchers only
+ * read from it once it's built, which is safe.</p>
+ */
+final class ElementCounts {
+
+	ElementCounts(int expectedDistinct) {
+		int capacity = Integer.highestOneBit(Math.max(expectedDistinct, 4) * 2 - 1) << 1;
+		keys = new Object[capacity];
+		counts = new int[capacity];
+		order = new int[capacity / 2];
+	}
+
+	ElementCounts(Collection<?> source) {
+		this(source.size());
+		for(Object element : source)
+			add(element, 1);
+	}
+
+	/**
+	 * Adds {@code delta} to the count of {@code element}, adding the element
+	 * if it isn't already counted.
+	 * @return the slot of {@code element}
+	 */
+	int add(Object element, int delta) {
+		Object key = element == null ? NULL_KEY : element;
+		int slot = find(key);
+		if(keys[slot] == null) {
+			if(distinct == order.length) {
+				grow();
+				slot = find(key);
+			}
+			keys[slot] = key;
+			order[distinct++] = slot;
+		}
+		counts[slot] += delta;
+		return slot;
+	}
+
+	/**
+	 * Returns the slot of {@code element}, or -1 if it isn't counted.
+	 */
+	int slotOf(Object element) {
+		int slot = find(element == null ? NULL_KEY : element);
+		return keys[slot] == null ? -1 : slot;
+	}
+
+	/** Returns the number of distinct elements counted. */
+	int distinct() {
+		return distinct;
+	}
+
+	/** Returns how many slots there are, which bounds every slot number. */
+	int capacity() {
+		return keys.length;
+	}
+
+	/** Returns the slot of the {@code i}th distinct element to be added. */
+	int slotAt(int i) {
+		return order[i];
+	}
+
+	Object elementAt(int slot) {
+		return keys[slot] == NULL_KEY ? null : keys[slot];
+	}
+
+	int countAt(int slot) {
+		return counts[slot];
+	}
+
+	/**
+	 * Returns a copy of the counts, indexed by slot, for a matcher to tick
+	 * elements off of.
+	 */
+	int[] copyCounts() {
+		return counts.clone();
+	}
+
+	/**
+	 * Returns whether every counted element is in {@code actual}, stopping at
+	 * the first one that isn't.
+	 */
+	boolean allIn(Collection<?> actual) {
+		return findMissing(actual, null);
+	}
+
+	/**
+	 * Returns the counted elements that aren't in {@code actual}, in the order
+	 * that they were first added, ignoring how many times each was counted.
+	 */
+	Diff.Entries missingFrom(Collection<?> actual) {
+		Diff.Entries missing = new Diff.Entries();
+		findMissing(actual, missing);
+		return missing;
+	}
+
+	/**
+	 * Adds the counted elements that aren't in {@code actual} to
+	 * {@code missing}, or stops at the first one if {@code missing} is
+	 * {@code null}. Returns whether there weren't any.
+	 */
+	private boolean findMissing(Collection<?> actual, Diff.Entries missing) {
+		if(distinct == 0)
+			return true;
+
+		if(isCheapToProbe(actual)) {
+			boolean none = true;
+			for(int i = 0; i < distinct; i++) {
+				Object element = elementAt(order[i]);
+				if(!actual.contains(element)) {
+					if(missing == null)
+						return false;
+					missing.add(element);
+					none = false;
+				}
+			}
+			return none;
+		}
+
+		boolean[] seen = new boolean[keys.length];
+		int remaining = distinct;
+		for(Object element : actual) {
+			int slot = slotOf(element);
+			if(slot >= 0 && !seen[slot]) {
+				seen[slot] = true;
+				if(--remaining == 0)
+					return true;
+			}
+		}
+		if(missing != null)
+			for(int i = 0; i < distinct; i++)
+				if(!seen[order[i]])
+					missing.add(elementAt(order[i]));
+		return false;
+	}
+
+	private boolean isCheapToProbe(Collection<?> actual) {
+		return actual instanceof Set || (long)actual.size() * distinct <= PROBE_LIMIT;
+	}
+
+	private int find(Object key) {
+		int mask = keys.length - 1;
+		int hash = key.hashCode() * 0x9E3779B9;
+		int slot = (hash ^ hash >>> 16) & mask;
+		while(keys[slot] != null && !Objects.equals(keys[slot], key))
+			slot = (slot + 1) & mask;
+		return slot;
+	}
+
+	private void grow() {
+		Object[] oldKeys = keys;
+		int[] oldCounts = counts;
+		int[] oldOrder = order;
+		keys = new Object[oldKeys.length * 2];
+		counts = new int[keys.length];
+		order = Arrays.copyOf(oldOrder, keys.length / 2);
+		for(int i = 0; i < distinct; i++) {
+			int slot = find(oldKeys[oldOrder[i]]);
+			keys[slot] = oldKeys[oldOrder[i]];
+			counts[slot] = oldCounts[oldOrder[i]];
+			order[i] = slot;
+		}
+	}
+
+	/** the n&middot;m past which probing the tested {@code Collection} is too slow */
+	static final long PROBE_LIMIT = 1024;
+	private static final Object NULL_KEY = new Object();
+
+	private Object[] keys;
+	private int[] counts;
+	private int[] order;
+	private int distinct = 0;
+}
@@ -1,33 +1,36 @@
 package ezgames.immatcher.matchers.comparisons;
 
 import java.util.Comparator;
-import java.util.function.IntPredicate;
-import ezgames.immatcher.Matcher;
-import ezgames.immatcher.Result;
-import ezgames.immatcher.ResultBuilder;
+import ezgames.immatcher.Costed;
+import ezgames.immatcher.PreparedMatcher;
+import ezgames.immatcher.Values;
 
-public class CompareTo<T> implements Matcher<T> {
+/**
+ * Compares objects to a given one with a {@code Comparator}. The messages
+ * and the comparator are fixed when it's made, so a match is one comparison;
+ * the given object is only rendered if a message is read.
+ */
+public class CompareTo<T> extends PreparedMatcher<T> implements Costed {
 
-	private final T other;
-	private final IntPredicate check;
-	private final String output;
-	private final Comparator<T> comparator;
-
-	public CompareTo(T other, IntPredicate check, String output, Comparator<T> comparator) {
+	CompareTo(T other, Comparison comparison, Comparator<? super T> comparator) {
+		super(() -> "was " + comparison.description() + " " + Values.render(other),
+		      () -> "was not " + comparison.description() + " " + Values.render(other));
 		this.other = other;
-		this.check = check;
-		this.output = output;
+		this.comparison = comparison;
 		this.comparator = comparator;
 	}
 
 	@Override
-	public Result match(T actual) {
-		ResultBuilder result = ResultBuilder.withMessages("was " + output, "was not " + output);
-		int comparison = comparator.compare(actual, other);
-		if(check.test(comparison))
-			return result.pass();
-		else
-			return result.fail();
+	protected boolean matches(T actual) {
+		return comparison.test(comparator.compare(actual, other));
+	}
+
+	@Override
+	public long getCost() {
+		return CONSTANT;
 	}
 
+	private final T other;
+	private final Comparison comparison;
+	private final Comparator<? super T> comparator;
 }
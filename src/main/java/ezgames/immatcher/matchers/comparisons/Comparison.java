@@ -0,0 +1,47 @@
+package ezgames.immatcher.matchers.comparisons;
+
+/**
+ * The ways a value can be compared to another, judged from the {@code int}
+ * returned by a {@code compare()} or {@code compareTo()}.
+ * <p>
+ * Each one just knows which of "less", "equal" and "greater" it accepts, so
+ * testing a comparison is a couple of branches with no lambda to call.</p>
+ */
+enum Comparison {
+	LESS_THAN("less than", Outcome.LESS),
+	GREATER_THAN("greater than", Outcome.GREATER),
+	EQUIVALENT_TO("equivalent to", Outcome.EQUAL),
+	LESS_THAN_OR_EQUAL_TO("less than or equal to", Outcome.LESS | Outcome.EQUAL),
+	GREATER_THAN_OR_EQUAL_TO("greater than or equal to", Outcome.GREATER | Outcome.EQUAL),
+	NOT_EQUIVALENT_TO("not equivalent to", Outcome.LESS | Outcome.GREATER);
+
+	Comparison(String description, int accepted) {
+		this.description = description;
+		this.accepted = accepted;
+	}
+
+	/**
+	 * Returns whether the result of a comparison is one this accepts.
+	 * @param comparison - the result of a {@code compare()} or {@code compareTo()}
+	 */
+	boolean test(int comparison) {
+		int outcome = comparison < 0 ? Outcome.LESS : comparison == 0 ? Outcome.EQUAL : Outcome.GREATER;
+		return (accepted & outcome) != 0;
+	}
+
+	/** Returns what this comparison looks like in a message, such as "less than". */
+	String description() {
+		return description;
+	}
+
+	private final String description;
+	private final int accepted;
+
+	// bit flags for the outcomes; they live in their own class because enum
+	// constants can't refer to the enum's own static fields
+	private static final class Outcome {
+		static final int LESS = 1;
+		static final int EQUAL = 2;
+		static final int GREATER = 4;
+	}
+}
@@ -1,54 +1,314 @@
 package ezgames.immatcher.matchers.comparisons;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.function.Function;
+import ezgames.immatcher.DoubleMatcher;
+import ezgames.immatcher.IntMatcher;
+import ezgames.immatcher.LongMatcher;
 import ezgames.immatcher.Matcher;
 
 public class ComparisonMatchers {
 	public static <T extends Comparable<T>> Matcher<T> isLessThan(T other) {
-		return new CompareTo<>(other, i -> i < 0, "less than", (obj1, obj2) -> obj1.compareTo(obj2));
+		return new CompareTo<>(other, Comparison.LESS_THAN, Comparator.<T>naturalOrder());
 	}
 	
 	public static <T extends Comparable<T>> Matcher<T> isGreaterThan(T other) {
-		return new CompareTo<>(other, i -> i > 0, "greater than", (obj1, obj2) -> obj1.compareTo(obj2));
+		return new CompareTo<>(other, Comparison.GREATER_THAN, Comparator.<T>naturalOrder());
 	}
 	
 	public static <T extends Comparable<T>> Matcher<T> isEquivalentTo(T other) {
-		return new CompareTo<>(other, i -> i == 0, "equivalent to", (obj1, obj2) -> obj1.compareTo(obj2));
+		return new CompareTo<>(other, Comparison.EQUIVALENT_TO, Comparator.<T>naturalOrder());
 	}
 	
 	public static <T extends Comparable<T>> Matcher<T> isLessThanOrEqualTo(T other) {
-		return new CompareTo<>(other, i -> i <= 0, "less than or equal to", (obj1, obj2) -> obj1.compareTo(obj2));
+		return new CompareTo<>(other, Comparison.LESS_THAN_OR_EQUAL_TO, Comparator.<T>naturalOrder());
 	}
 	
 	public static <T extends Comparable<T>> Matcher<T> isGreaterThanOrEqualTo(T other) {
-		return new CompareTo<>(other, i -> i >= 0, "greater than or equal to", (obj1, obj2) -> obj1.compareTo(obj2));
+		return new CompareTo<>(other, Comparison.GREATER_THAN_OR_EQUAL_TO, Comparator.<T>naturalOrder());
 	}
 	
 	public static <T extends Comparable<T>> Matcher<T> isNotEquivalentTo(T other) {
-		return new CompareTo<>(other, i -> i != 0, "not equivalent to", (obj1, obj2) -> obj1.compareTo(obj2));
+		return new CompareTo<>(other, Comparison.NOT_EQUIVALENT_TO, Comparator.<T>naturalOrder());
 	}
 	
+	/**
+	 * Returns a {@code Matcher} that checks that the object under test is
+	 * between {@code lowest} and {@code highest}, inclusive, with one
+	 * comparison against each.
+	 * @param lowest - the lowest value that passes
+	 * @param highest - the highest value that passes
+	 * @return a {@code Matcher} that checks for the bounds
+	 */
+	public static <T extends Comparable<T>> Matcher<T> isBetween(T lowest, T highest) {
+		return new IsBetween<>(lowest, highest, Comparator.<T>naturalOrder());
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the object under test is in
+	 * at least one of the given {@code Range}s. The ranges are joined and
+	 * sorted up front, so that each check is a binary search.
+	 * @param ranges - the ranges that pass
+	 * @return a {@code Matcher} that checks for the ranges
+	 */
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	public static <T extends Comparable<? super T>> Matcher<T> isInAnyRange(Range<T>... ranges) {
+		return new IsInAnyRange<>(new ArrayList<>(Arrays.asList(ranges)));
+	}
+
 	public static <T> Matcher<T> isLessThan(T other, Comparator<T> comparator) {
-		return new CompareTo<>(other, i -> i < 0, "less than", comparator);
+		return new CompareTo<>(other, Comparison.LESS_THAN, comparator);
 	}
 	
 	public static <T> Matcher<T> isGreaterThan(T other, Comparator<T> comparator) {
-		return new CompareTo<>(other, i -> i > 0, "greater than", comparator);
+		return new CompareTo<>(other, Comparison.GREATER_THAN, comparator);
 	}
 	
 	public static <T> Matcher<T> isEquivalentTo(T other, Comparator<T> comparator) {
-		return new CompareTo<>(other, i -> i == 0, "equivalent to", comparator);
+		return new CompareTo<>(other, Comparison.EQUIVALENT_TO, comparator);
 	}
 	
 	public static <T> Matcher<T> isLessThanOrEqualTo(T other, Comparator<T> comparator) {
-		return new CompareTo<>(other, i -> i <= 0, "less than or equal to", comparator);
+		return new CompareTo<>(other, Comparison.LESS_THAN_OR_EQUAL_TO, comparator);
 	}
 	
 	public static <T> Matcher<T> isGreaterThanOrEqualTo(T other, Comparator<T> comparator) {
-		return new CompareTo<>(other, i -> i >= 0, "greater than or equal to", comparator);
+		return new CompareTo<>(other, Comparison.GREATER_THAN_OR_EQUAL_TO, comparator);
 	}
 	
 	public static <T> Matcher<T> isNotEquivalentTo(T other, Comparator<T> comparator) {
-		return new CompareTo<>(other, i -> i != 0, "not equivalent to", comparator);
+		return new CompareTo<>(other, Comparison.NOT_EQUIVALENT_TO, comparator);
+	}
+
+	public static <T> Matcher<T> isBetween(T lowest, T highest, Comparator<T> comparator) {
+		return new IsBetween<>(lowest, highest, comparator);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the elements of the
+	 * {@code Iterable} under test are in natural order, allowing equal
+	 * neighbours.
+	 * @return a {@code Matcher} that checks for natural order
+	 */
+	public static <T extends Comparable<? super T>> Matcher<Iterable<? extends T>> isSorted() {
+		return new IsSorted<>(Comparator.naturalOrder(), Comparison.LESS_THAN_OR_EQUAL_TO, "sorted");
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the elements of the array
+	 * under test are in natural order, allowing equal neighbours.
+	 * {@code int[]}, {@code long[]} and {@code double[]} are checked without
+	 * boxing.
+	 * @param arrayType - the type of array to be tested, such as
+	 *                  {@code int[].class} or {@code String[].class}
+	 * @return a {@code Matcher} that checks for natural order
+	 * @throws IllegalArgumentException if {@code arrayType} isn't an
+	 *                                  {@code int[]}, {@code long[]},
+	 *                                  {@code double[]} or an array of
+	 *                                  {@code Comparable}s
+	 */
+	public static <A> Matcher<A> isSorted(Class<A> arrayType) {
+		checkSortable(arrayType);
+		return new IsSorted<>(Comparator.naturalOrder(), Comparison.LESS_THAN_OR_EQUAL_TO, "sorted");
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the elements of the
+	 * {@code Iterable} under test are in natural order, with no two
+	 * neighbours equal.
+	 * @return a {@code Matcher} that checks for strictly increasing order
+	 */
+	public static <T extends Comparable<? super T>> Matcher<Iterable<? extends T>> isStrictlySorted() {
+		return new IsSorted<>(Comparator.naturalOrder(), Comparison.LESS_THAN, "strictly sorted");
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the elements of the array
+	 * under test are in natural order, with no two neighbours equal.
+	 * {@code int[]}, {@code long[]} and {@code double[]} are checked without
+	 * boxing.
+	 * @param arrayType - the type of array to be tested, such as
+	 *                  {@code int[].class} or {@code String[].class}
+	 * @return a {@code Matcher} that checks for strictly increasing order
+	 * @throws IllegalArgumentException if {@code arrayType} isn't an
+	 *                                  {@code int[]}, {@code long[]},
+	 *                                  {@code double[]} or an array of
+	 *                                  {@code Comparable}s
+	 */
+	public static <A> Matcher<A> isStrictlySorted(Class<A> arrayType) {
+		checkSortable(arrayType);
+		return new IsSorted<>(Comparator.naturalOrder(), Comparison.LESS_THAN, "strictly sorted");
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the elements of the
+	 * {@code Iterable} under test are in the order of the given
+	 * {@code Comparator}, allowing equal neighbours.
+	 * @param comparator - defines the order
+	 * @return a {@code Matcher} that checks for the given order
+	 */
+	public static <T> Matcher<Iterable<? extends T>> isSorted(Comparator<? super T> comparator) {
+		return new IsSorted<>(comparator, Comparison.LESS_THAN_OR_EQUAL_TO, "sorted by the given comparator");
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the elements of the
+	 * {@code Iterable} under test are in the natural order of the keys
+	 * extracted by the given {@code Function}, allowing equal neighbours.
+	 * @param key - extracts the key to order the elements by
+	 * @return a {@code Matcher} that checks for the order of the keys
+	 */
+	public static <T, U extends Comparable<? super U>> Matcher<Iterable<? extends T>> isSortedBy(Function<? super T, ? extends U> key) {
+		return new IsSorted<>(Comparator.comparing(key), Comparison.LESS_THAN_OR_EQUAL_TO, "sorted by key");
+	}
+
+	public static IntMatcher isLessThan(int other) {
+		return new IntCompareTo(other, Comparison.LESS_THAN);
+	}
+	
+	public static IntMatcher isGreaterThan(int other) {
+		return new IntCompareTo(other, Comparison.GREATER_THAN);
+	}
+	
+	public static IntMatcher isEquivalentTo(int other) {
+		return new IntCompareTo(other, Comparison.EQUIVALENT_TO);
+	}
+	
+	public static IntMatcher isLessThanOrEqualTo(int other) {
+		return new IntCompareTo(other, Comparison.LESS_THAN_OR_EQUAL_TO);
+	}
+	
+	public static IntMatcher isGreaterThanOrEqualTo(int other) {
+		return new IntCompareTo(other, Comparison.GREATER_THAN_OR_EQUAL_TO);
+	}
+	
+	public static IntMatcher isNotEquivalentTo(int other) {
+		return new IntCompareTo(other, Comparison.NOT_EQUIVALENT_TO);
+	}
+	
+	public static IntMatcher isBetween(int lowest, int highest) {
+		return new IntIsBetween(lowest, highest);
+	}
+
+	/**
+	 * Returns an {@code IntMatcher} that checks that the {@code int} under
+	 * test is no further than {@code tolerance} from {@code expected}.
+	 * @param expected - the value to be close to
+	 * @param tolerance - how far from {@code expected} passes; not negative
+	 * @return an {@code IntMatcher} that checks for the tolerance
+	 */
+	public static IntMatcher isWithin(int expected, int tolerance) {
+		checkTolerance(tolerance);
+		int lowest = (int)Math.max(Integer.MIN_VALUE, (long)expected - tolerance);
+		int highest = (int)Math.min(Integer.MAX_VALUE, (long)expected + tolerance);
+		return new IntIsBetween(lowest, highest, "within " + tolerance + " of " + expected);
+	}
+
+	public static LongMatcher isLessThan(long other) {
+		return new LongCompareTo(other, Comparison.LESS_THAN);
+	}
+	
+	public static LongMatcher isGreaterThan(long other) {
+		return new LongCompareTo(other, Comparison.GREATER_THAN);
+	}
+	
+	public static LongMatcher isEquivalentTo(long other) {
+		return new LongCompareTo(other, Comparison.EQUIVALENT_TO);
+	}
+	
+	public static LongMatcher isLessThanOrEqualTo(long other) {
+		return new LongCompareTo(other, Comparison.LESS_THAN_OR_EQUAL_TO);
+	}
+	
+	public static LongMatcher isGreaterThanOrEqualTo(long other) {
+		return new LongCompareTo(other, Comparison.GREATER_THAN_OR_EQUAL_TO);
+	}
+	
+	public static LongMatcher isNotEquivalentTo(long other) {
+		return new LongCompareTo(other, Comparison.NOT_EQUIVALENT_TO);
+	}
+	
+	public static LongMatcher isBetween(long lowest, long highest) {
+		return new LongIsBetween(lowest, highest);
+	}
+
+	/**
+	 * Returns a {@code LongMatcher} that checks that the {@code long} under
+	 * test is no further than {@code tolerance} from {@code expected}.
+	 * @param expected - the value to be close to
+	 * @param tolerance - how far from {@code expected} passes; not negative
+	 * @return a {@code LongMatcher} that checks for the tolerance
+	 */
+	public static LongMatcher isWithin(long expected, long tolerance) {
+		checkTolerance(tolerance);
+		long lowest = expected - tolerance;
+		if(lowest > expected)
+			lowest = Long.MIN_VALUE;
+		long highest = expected + tolerance;
+		if(highest < expected)
+			highest = Long.MAX_VALUE;
+		return new LongIsBetween(lowest, highest, "within " + tolerance + " of " + expected);
+	}
+
+	public static DoubleMatcher isLessThan(double other) {
+		return new DoubleCompareTo(other, Comparison.LESS_THAN);
+	}
+	
+	public static DoubleMatcher isGreaterThan(double other) {
+		return new DoubleCompareTo(other, Comparison.GREATER_THAN);
+	}
+	
+	public static DoubleMatcher isEquivalentTo(double other) {
+		return new DoubleCompareTo(other, Comparison.EQUIVALENT_TO);
+	}
+	
+	public static DoubleMatcher isLessThanOrEqualTo(double other) {
+		return new DoubleCompareTo(other, Comparison.LESS_THAN_OR_EQUAL_TO);
+	}
+	
+	public static DoubleMatcher isGreaterThanOrEqualTo(double other) {
+		return new DoubleCompareTo(other, Comparison.GREATER_THAN_OR_EQUAL_TO);
+	}
+	
+	public static DoubleMatcher isNotEquivalentTo(double other) {
+		return new DoubleCompareTo(other, Comparison.NOT_EQUIVALENT_TO);
+	}
+	
+	public static DoubleMatcher isBetween(double lowest, double highest) {
+		return new DoubleIsBetween(lowest, highest);
+	}
+
+	public static DoubleMatcher isCloseTo(double expected, double tolerance) {
+		return new DoubleIsCloseTo(expected, tolerance);
+	}
+
+	/**
+	 * The same as {@link #isCloseTo(double, double)}, named to match the
+	 * {@code int} and {@code long} versions, except that a negative
+	 * {@code tolerance} is rejected.
+	 * @param expected - the value to be close to
+	 * @param tolerance - how far from {@code expected} passes; not negative
+	 * @return a {@code DoubleMatcher} that checks for the tolerance
+	 */
+	public static DoubleMatcher isWithin(double expected, double tolerance) {
+		checkTolerance(tolerance);
+		return new DoubleIsCloseTo(expected, tolerance);
+	}
+
+	private static void checkSortable(Class<?> arrayType) {
+		Class<?> elementType = arrayType.getComponentType();
+		if(elementType == int.class || elementType == long.class || elementType == double.class ||
+				(elementType != null && Comparable.class.isAssignableFrom(elementType)))
+			return;
+		throw new IllegalArgumentException("can only check the natural order of int[], long[], double[] and arrays of Comparables, not " +
+				arrayType.getName());
+	}
+
+	private static void checkTolerance(double tolerance) {
+		if(!(tolerance >= 0))
+			throw new IllegalArgumentException("tolerance must not be negative, but was " + tolerance);
 	}
 }
@@ -0,0 +1,37 @@
+package ezgames.immatcher.matchers.comparisons;
+
+import ezgames.immatcher.DoubleMatcher;
+import ezgames.immatcher.Result;
+import ezgames.immatcher.ResultBuilder;
+
+/**
+ * The {@code double} version of {@link CompareTo}. It compares with
+ * {@code Double.compare()} and returns prebuilt {@code Result}s, so a match
+ * neither boxes nor allocates.
+ */
+public class DoubleCompareTo implements DoubleMatcher {
+
+	DoubleCompareTo(double other, Comparison comparison) {
+		this.other = other;
+		this.comparison = comparison;
+		String expected = "was " + comparison.description() + " " + other;
+		String notExpected = "was not " + comparison.description() + " " + other;
+		this.result = ResultBuilder.withMessages(expected, notExpected);
+		this.inverted = ResultBuilder.withMessages(notExpected, expected);
+	}
+
+	@Override
+	public Result matchDouble(double actual) {
+		return result.buildWithPassStatusOf(comparison.test(Double.compare(actual, other)));
+	}
+
+	@Override
+	public Result notMatchesDouble(double actual) {
+		return inverted.buildWithPassStatusOf(!comparison.test(Double.compare(actual, other)));
+	}
+
+	private final double other;
+	private final Comparison comparison;
+	private final ResultBuilder result;
+	private final ResultBuilder inverted;
+}
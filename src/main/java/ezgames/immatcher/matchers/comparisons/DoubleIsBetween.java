@@ -0,0 +1,40 @@
+package ezgames.immatcher.matchers.comparisons;
+
+import ezgames.immatcher.DoubleMatcher;
+import ezgames.immatcher.Result;
+import ezgames.immatcher.ResultBuilder;
+
+/**
+ * Checks that a {@code double} is between two bounds, inclusive, without boxing
+ * or allocating.
+ */
+public class DoubleIsBetween implements DoubleMatcher {
+
+	DoubleIsBetween(double lowest, double highest) {
+		this.lowest = lowest;
+		this.highest = highest;
+		String expected = "was between " + lowest + " and " + highest;
+		String notExpected = "was not between " + lowest + " and " + highest;
+		this.result = ResultBuilder.withMessages(expected, notExpected);
+		this.inverted = ResultBuilder.withMessages(notExpected, expected);
+	}
+
+	@Override
+	public Result matchDouble(double actual) {
+		return result.buildWithPassStatusOf(isBetween(actual));
+	}
+
+	@Override
+	public Result notMatchesDouble(double actual) {
+		return inverted.buildWithPassStatusOf(!isBetween(actual));
+	}
+
+	private boolean isBetween(double actual) {
+		return Double.compare(actual, lowest) >= 0 && Double.compare(actual, highest) <= 0;
+	}
+
+	private final double lowest;
+	private final double highest;
+	private final ResultBuilder result;
+	private final ResultBuilder inverted;
+}
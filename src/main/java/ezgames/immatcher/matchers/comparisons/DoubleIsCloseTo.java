@@ -0,0 +1,40 @@
+package ezgames.immatcher.matchers.comparisons;
+
+import ezgames.immatcher.DoubleMatcher;
+import ezgames.immatcher.Result;
+import ezgames.immatcher.ResultBuilder;
+
+/**
+ * Checks that a {@code double} is no further than a given tolerance from an
+ * expected value. {@code NaN} is never close to anything.
+ */
+public class DoubleIsCloseTo implements DoubleMatcher {
+
+	DoubleIsCloseTo(double expected, double tolerance) {
+		this.expected = expected;
+		this.tolerance = tolerance;
+		String closeTo = "was within " + tolerance + " of " + expected;
+		String notCloseTo = "was not within " + tolerance + " of " + expected;
+		this.result = ResultBuilder.withMessages(closeTo, notCloseTo);
+		this.inverted = ResultBuilder.withMessages(notCloseTo, closeTo);
+	}
+
+	@Override
+	public Result matchDouble(double actual) {
+		return result.buildWithPassStatusOf(isCloseTo(actual));
+	}
+
+	@Override
+	public Result notMatchesDouble(double actual) {
+		return inverted.buildWithPassStatusOf(!isCloseTo(actual));
+	}
+
+	private boolean isCloseTo(double actual) {
+		return Math.abs(actual - expected) <= tolerance;
+	}
+
+	private final double expected;
+	private final double tolerance;
+	private final ResultBuilder result;
+	private final ResultBuilder inverted;
+}
@@ -0,0 +1,37 @@
+package ezgames.immatcher.matchers.comparisons;
+
+import ezgames.immatcher.IntMatcher;
+import ezgames.immatcher.Result;
+import ezgames.immatcher.ResultBuilder;
+
+/**
+ * The {@code int} version of {@link CompareTo}. It compares with
+ * {@code Integer.compare()} and returns prebuilt {@code Result}s, so a match
+ * neither boxes nor allocates.
+ */
+public class IntCompareTo implements IntMatcher {
+
+	IntCompareTo(int other, Comparison comparison) {
+		this.other = other;
+		this.comparison = comparison;
+		String expected = "was " + comparison.description() + " " + other;
+		String notExpected = "was not " + comparison.description() + " " + other;
+		this.result = ResultBuilder.withMessages(expected, notExpected);
+		this.inverted = ResultBuilder.withMessages(notExpected, expected);
+	}
+
+	@Override
+	public Result matchInt(int actual) {
+		return result.buildWithPassStatusOf(comparison.test(Integer.compare(actual, other)));
+	}
+
+	@Override
+	public Result notMatchesInt(int actual) {
+		return inverted.buildWithPassStatusOf(!comparison.test(Integer.compare(actual, other)));
+	}
+
+	private final int other;
+	private final Comparison comparison;
+	private final ResultBuilder result;
+	private final ResultBuilder inverted;
+}
@@ -0,0 +1,48 @@
+package ezgames.immatcher.matchers.comparisons;
+
+import ezgames.immatcher.IntMatcher;
+import ezgames.immatcher.Result;
+import ezgames.immatcher.ResultBuilder;
+
+/**
+ * Checks that an {@code int} is between two bounds, inclusive, without boxing
+ * or allocating.
+ */
+public class IntIsBetween implements IntMatcher {
+
+	IntIsBetween(int lowest, int highest) {
+		this(lowest, highest, "between " + lowest + " and " + highest);
+	}
+
+	/**
+	 * Creates one whose messages describe the bounds as "was " followed by
+	 * {@code description}, such as "within 2 of 10".
+	 */
+	IntIsBetween(int lowest, int highest, String description) {
+		this.lowest = lowest;
+		this.highest = highest;
+		String expected = "was " + description;
+		String notExpected = "was not " + description;
+		this.result = ResultBuilder.withMessages(expected, notExpected);
+		this.inverted = ResultBuilder.withMessages(notExpected, expected);
+	}
+
+	@Override
+	public Result matchInt(int actual) {
+		return result.buildWithPassStatusOf(isBetween(actual));
+	}
+
+	@Override
+	public Result notMatchesInt(int actual) {
+		return inverted.buildWithPassStatusOf(!isBetween(actual));
+	}
+
+	private boolean isBetween(int actual) {
+		return Integer.compare(actual, lowest) >= 0 && Integer.compare(actual, highest) <= 0;
+	}
+
+	private final int lowest;
+	private final int highest;
+	private final ResultBuilder result;
+	private final ResultBuilder inverted;
+}
@@ -0,0 +1,36 @@
+package ezgames.immatcher.matchers.comparisons;
+
+import java.util.Comparator;
+import ezgames.immatcher.Costed;
+import ezgames.immatcher.PreparedMatcher;
+import ezgames.immatcher.Values;
+
+/**
+ * Checks that an object is between two bounds, inclusive, by a
+ * {@code Comparator}. It's one comparison against each bound, with a single
+ * message, rather than an {@code allOf()} of two {@link CompareTo}s.
+ */
+public class IsBetween<T> extends PreparedMatcher<T> implements Costed {
+
+	IsBetween(T lowest, T highest, Comparator<? super T> comparator) {
+		super(() -> "was between " + Values.render(lowest) + " and " + Values.render(highest),
+		      () -> "was not between " + Values.render(lowest) + " and " + Values.render(highest));
+		this.lowest = lowest;
+		this.highest = highest;
+		this.comparator = comparator;
+	}
+
+	@Override
+	protected boolean matches(T actual) {
+		return comparator.compare(actual, lowest) >= 0 && comparator.compare(actual, highest) <= 0;
+	}
+
+	@Override
+	public long getCost() {
+		return CONSTANT;
+	}
+
+	private final T lowest;
+	private final T highest;
+	private final Comparator<? super T> comparator;
+}
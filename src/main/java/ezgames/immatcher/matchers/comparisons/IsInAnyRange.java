@@ -0,0 +1,82 @@
+package ezgames.immatcher.matchers.comparisons;
+
+import java.util.ArrayList;
+import java.util.List;
+import ezgames.immatcher.Costed;
+import ezgames.immatcher.PreparedMatcher;
+
+/**
+ * Checks that an object is in at least one of a set of {@link Range}s.
+ * <p>
+ * The ranges are sorted and any that overlap or touch are joined when it's
+ * made, which leaves them disjoint and in order, so a match is a binary
+ * search: about log<sub>2</sub>(n) comparisons for n ranges instead of
+ * checking each one. The messages list the ranges as they were given.</p>
+ */
+public class IsInAnyRange<T extends Comparable<? super T>> extends PreparedMatcher<T> implements Costed {
+
+	IsInAnyRange(List<Range<T>> ranges) {
+		this(ranges, describe(ranges));
+	}
+
+	@Override
+	protected boolean matches(T actual) {
+		// the last range that starts at or before actual is the only one that
+		// can contain it
+		int low = 0;
+		int high = disjoint.size() - 1;
+		while(low <= high) {
+			int middle = (low + high) >>> 1;
+			if(disjoint.get(middle).isAboveLowest(actual))
+				low = middle + 1;
+			else
+				high = middle - 1;
+		}
+		return high >= 0 && disjoint.get(high).isBelowHighest(actual);
+	}
+
+	@Override
+	public long getCost() {
+		return CONSTANT;
+	}
+
+	private IsInAnyRange(List<Range<T>> ranges, String description) {
+		super("was in " + description, "was not in " + description);
+		this.disjoint = disjoint(ranges);
+	}
+
+	private static String describe(List<? extends Range<?>> ranges) {
+		if(ranges.isEmpty())
+			throw new IllegalArgumentException("at least one Range is needed");
+		StringBuilder description = new StringBuilder();
+		for(int i = 0; i < ranges.size(); i++) {
+			if(i > 0)
+				description.append(i == ranges.size() - 1 ? " or " : ", ");
+			description.append(ranges.get(i));
+		}
+		return description.toString();
+	}
+
+	/**
+	 * Sorts the ranges by where they start, drops empty ones, and joins any
+	 * that overlap or touch.
+	 */
+	private static <T extends Comparable<? super T>> List<Range<T>> disjoint(List<Range<T>> ranges) {
+		List<Range<T>> sorted = new ArrayList<>(ranges);
+		sorted.sort(Range::compareLowestTo);
+		ArrayList<Range<T>> joined = new ArrayList<>(sorted.size());
+		for(Range<T> range : sorted) {
+			if(range.isEmpty())
+				continue;
+			int last = joined.size() - 1;
+			if(last >= 0 && joined.get(last).joins(range))
+				joined.set(last, joined.get(last).span(range));
+			else
+				joined.add(range);
+		}
+		joined.trimToSize();
+		return joined;
+	}
+
+	private final List<Range<T>> disjoint;
+}
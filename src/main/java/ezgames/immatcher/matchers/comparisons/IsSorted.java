@@ -0,0 +1,163 @@
+package ezgames.immatcher.matchers.comparisons;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import ezgames.immatcher.Costed;
+import ezgames.immatcher.PreparedMatcher;
+import ezgames.immatcher.Result;
+import ezgames.immatcher.Values;
+
+/**
+ * Checks that the elements of an {@code Iterable} or an array are in order,
+ * in a single pass that compares each element with the one before it and
+ * stops at the first one that's out of order. Nothing is copied.
+ * <p>
+ * {@code int[]}, {@code long[]} and {@code double[]} in natural order are
+ * compared without boxing ({@code double}s the way {@code Double.compare()}
+ * does), and {@code RandomAccess} {@code List}s are walked by index.</p>
+ * <p>
+ * The two elements that are out of order are kept while matching, so the
+ * failure message never has to walk the {@code Iterable} again, which it
+ * might not allow.</p>
+ *
+ * @param <C> the type of container being tested
+ */
+public class IsSorted<C> extends PreparedMatcher<C> implements Costed {
+
+	@SuppressWarnings("unchecked")
+	IsSorted(Comparator<?> comparator, Comparison order, String description) {
+		super("was " + description, "was not " + description);
+		this.comparator = (Comparator<Object>)comparator;
+		this.order = order;
+		this.natural = comparator == Comparator.naturalOrder();
+	}
+
+	@Override
+	public Result match(C actual) {
+		Object[] pair = new Object[2];
+		int index = firstOutOfOrder(actual, pair);
+		if(index < 0)
+			return passed();
+		else
+			return failedWith(() -> "was out of order at index " + index + ": " +
+					Values.render(pair[1]) + " came after " + Values.render(pair[0]));
+	}
+
+	@Override
+	protected boolean matches(C actual) {
+		return firstOutOfOrder(actual, null) < 0;
+	}
+
+	@Override
+	public long getCost() {
+		return LINEAR;
+	}
+
+	/**
+	 * Returns the index of the first element that's out of order with the one
+	 * before it, or -1 if they're all in order. If {@code pair} isn't
+	 * {@code null}, the two elements are put in it.
+	 */
+	private int firstOutOfOrder(Object actual, Object[] pair) {
+		if(actual instanceof Iterable && !(actual instanceof List && actual instanceof RandomAccess))
+			return firstOutOfOrder((Iterable<?>)actual, pair);
+		int index = firstOutOfOrderByIndex(actual);
+		if(index >= 0 && pair != null) {
+			pair[0] = elementAt(actual, index - 1);
+			pair[1] = elementAt(actual, index);
+		}
+		return index;
+	}
+
+	private int firstOutOfOrderByIndex(Object actual) {
+		if(natural) {
+			if(actual instanceof int[])
+				return firstOutOfOrder((int[])actual);
+			if(actual instanceof long[])
+				return firstOutOfOrder((long[])actual);
+			if(actual instanceof double[])
+				return firstOutOfOrder((double[])actual);
+		}
+		if(actual instanceof Object[])
+			return firstOutOfOrder((Object[])actual);
+		if(actual instanceof List)
+			return firstOutOfOrder((List<?>)actual);
+		throw new IllegalArgumentException("can only check the order of Iterables and arrays, not " + actual);
+	}
+
+	private int firstOutOfOrder(int[] actual) {
+		for(int i = 1; i < actual.length; i++)
+			if(!order.test(Integer.compare(actual[i - 1], actual[i])))
+				return i;
+		return -1;
+	}
+
+	private int firstOutOfOrder(long[] actual) {
+		for(int i = 1; i < actual.length; i++)
+			if(!order.test(Long.compare(actual[i - 1], actual[i])))
+				return i;
+		return -1;
+	}
+
+	private int firstOutOfOrder(double[] actual) {
+		for(int i = 1; i < actual.length; i++)
+			if(!order.test(Double.compare(actual[i - 1], actual[i])))
+				return i;
+		return -1;
+	}
+
+	private int firstOutOfOrder(Object[] actual) {
+		for(int i = 1; i < actual.length; i++)
+			if(!order.test(comparator.compare(actual[i - 1], actual[i])))
+				return i;
+		return -1;
+	}
+
+	private int firstOutOfOrder(List<?> actual) {
+		for(int i = 1, size = actual.size(); i < size; i++)
+			if(!order.test(comparator.compare(actual.get(i - 1), actual.get(i))))
+				return i;
+		return -1;
+	}
+
+	private int firstOutOfOrder(Iterable<?> actual, Object[] pair) {
+		Iterator<?> elements = actual.iterator();
+		if(!elements.hasNext())
+			return -1;
+		Object previous = elements.next();
+		for(int i = 1; elements.hasNext(); i++) {
+			Object next = elements.next();
+			if(!order.test(comparator.compare(previous, next))) {
+				if(pair != null) {
+					pair[0] = previous;
+					pair[1] = next;
+				}
+				return i;
+			}
+			previous = next;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the element at {@code index} of an array or {@code List}, for
+	 * the failure message.
+	 */
+	private static Object elementAt(Object actual, int index) {
+		if(actual instanceof int[])
+			return ((int[])actual)[index];
+		if(actual instanceof long[])
+			return ((long[])actual)[index];
+		if(actual instanceof double[])
+			return ((double[])actual)[index];
+		if(actual instanceof Object[])
+			return ((Object[])actual)[index];
+		return ((List<?>)actual).get(index);
+	}
+
+	private final Comparator<Object> comparator;
+	private final Comparison order;
+	private final boolean natural;
+}
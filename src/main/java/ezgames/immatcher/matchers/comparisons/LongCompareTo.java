@@ -0,0 +1,37 @@
+package ezgames.immatcher.matchers.comparisons;
+
+import ezgames.immatcher.LongMatcher;
+import ezgames.immatcher.Result;
+import ezgames.immatcher.ResultBuilder;
+
+/**
+ * The {@code long} version of {@link CompareTo}. It compares with
+ * {@code Long.compare()} and returns prebuilt {@code Result}s, so a match
+ * neither boxes nor allocates.
+ */
+public class LongCompareTo implements LongMatcher {
+
+	LongCompareTo(long other, Comparison comparison) {
+		this.other = other;
+		this.comparison = comparison;
+		String expected = "was " + comparison.description() + " " + other;
+		String notExpected = "was not " + comparison.description() + " " + other;
+		this.result = ResultBuilder.withMessages(expected, notExpected);
+		this.inverted = ResultBuilder.withMessages(notExpected, expected);
+	}
+
+	@Override
+	public Result matchLong(long actual) {
+		return result.buildWithPassStatusOf(comparison.test(Long.compare(actual, other)));
+	}
+
+	@Override
+	public Result notMatchesLong(long actual) {
+		return inverted.buildWithPassStatusOf(!comparison.test(Long.compare(actual, other)));
+	}
+
+	private final long other;
+	private final Comparison comparison;
+	private final ResultBuilder result;
+	private final ResultBuilder inverted;
+}
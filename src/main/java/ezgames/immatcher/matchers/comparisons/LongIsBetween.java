@@ -0,0 +1,48 @@
+package ezgames.immatcher.matchers.comparisons;
+
+import ezgames.immatcher.LongMatcher;
+import ezgames.immatcher.Result;
+import ezgames.immatcher.ResultBuilder;
+
+/**
+ * Checks that a {@code long} is between two bounds, inclusive, without boxing
+ * or allocating.
+ */
+public class LongIsBetween implements LongMatcher {
+
+	LongIsBetween(long lowest, long highest) {
+		this(lowest, highest, "between " + lowest + " and " + highest);
+	}
+
+	/**
+	 * Creates one whose messages describe the bounds as "was " followed by
+	 * {@code description}, such as "within 2 of 10".
+	 */
+	LongIsBetween(long lowest, long highest, String description) {
+		this.lowest = lowest;
+		this.highest = highest;
+		String expected = "was " + description;
+		String notExpected = "was not " + description;
+		this.result = ResultBuilder.withMessages(expected, notExpected);
+		this.inverted = ResultBuilder.withMessages(notExpected, expected);
+	}
+
+	@Override
+	public Result matchLong(long actual) {
+		return result.buildWithPassStatusOf(isBetween(actual));
+	}
+
+	@Override
+	public Result notMatchesLong(long actual) {
+		return inverted.buildWithPassStatusOf(!isBetween(actual));
+	}
+
+	private boolean isBetween(long actual) {
+		return Long.compare(actual, lowest) >= 0 && Long.compare(actual, highest) <= 0;
+	}
+
+	private final long lowest;
+	private final long highest;
+	private final ResultBuilder result;
+	private final ResultBuilder inverted;
+}
@@ -0,0 +1,115 @@
+package ezgames.immatcher.matchers.comparisons;
+
+import ezgames.immatcher.Values;
+
+/**
+ * An interval of {@code Comparable} values, such as {@code [1, 5]} or
+ * {@code [0.0, 1.0)}, for {@link ComparisonMatchers#isInAnyRange(Range[])}.
+ * Each bound is either closed (the bound itself is in the range) or open.
+ */
+public final class Range<T extends Comparable<? super T>> {
+
+	/** Returns the range from {@code lowest} to {@code highest}, both included. */
+	public static <T extends Comparable<? super T>> Range<T> closed(T lowest, T highest) {
+		return new Range<>(lowest, true, highest, true);
+	}
+
+	/** Returns the range from {@code lowest} to {@code highest}, both excluded. */
+	public static <T extends Comparable<? super T>> Range<T> open(T lowest, T highest) {
+		return new Range<>(lowest, false, highest, false);
+	}
+
+	/** Returns the range from {@code lowest}, included, to {@code highest}, excluded. */
+	public static <T extends Comparable<? super T>> Range<T> closedOpen(T lowest, T highest) {
+		return new Range<>(lowest, true, highest, false);
+	}
+
+	/** Returns the range from {@code lowest}, excluded, to {@code highest}, included. */
+	public static <T extends Comparable<? super T>> Range<T> openClosed(T lowest, T highest) {
+		return new Range<>(lowest, false, highest, true);
+	}
+
+	public T getLowest() {
+		return lowest;
+	}
+
+	public T getHighest() {
+		return highest;
+	}
+
+	public boolean includesLowest() {
+		return includesLowest;
+	}
+
+	public boolean includesHighest() {
+		return includesHighest;
+	}
+
+	/** Returns whether {@code value} is in this range. */
+	public boolean contains(T value) {
+		return isAboveLowest(value) && isBelowHighest(value);
+	}
+
+	@Override
+	public String toString() {
+		return (includesLowest ? "[" : "(") + Values.render(lowest) + ", " + Values.render(highest) + (includesHighest ? "]" : ")");
+	}
+
+	boolean isAboveLowest(T value) {
+		int comparison = value.compareTo(lowest);
+		return comparison > 0 || (comparison == 0 && includesLowest);
+	}
+
+	boolean isBelowHighest(T value) {
+		int comparison = value.compareTo(highest);
+		return comparison < 0 || (comparison == 0 && includesHighest);
+	}
+
+	/** Returns whether the range has no values in it at all. */
+	boolean isEmpty() {
+		int comparison = lowest.compareTo(highest);
+		return comparison > 0 || (comparison == 0 && !(includesLowest && includesHighest));
+	}
+
+	/**
+	 * Orders ranges by where they start; of two that start at the same value,
+	 * the one that includes it comes first.
+	 */
+	int compareLowestTo(Range<T> other) {
+		int comparison = lowest.compareTo(other.lowest);
+		if(comparison != 0 || includesLowest == other.includesLowest)
+			return comparison;
+		return includesLowest ? -1 : 1;
+	}
+
+	/**
+	 * Returns whether {@code other}, which doesn't start before this one,
+	 * overlaps or touches this one, so that the two make one range.
+	 */
+	boolean joins(Range<T> other) {
+		int comparison = other.lowest.compareTo(highest);
+		return comparison < 0 || (comparison == 0 && (includesHighest || other.includesLowest));
+	}
+
+	/** Returns the range covering this one and {@code other}, which joins it. */
+	Range<T> span(Range<T> other) {
+		int comparison = other.highest.compareTo(highest);
+		if(comparison < 0 || (comparison == 0 && (includesHighest || !other.includesHighest)))
+			return this;
+		return new Range<>(lowest, includesLowest, other.highest, other.includesHighest);
+	}
+
+	private Range(T lowest, boolean includesLowest, T highest, boolean includesHighest) {
+		if(lowest == null || highest == null)
+			throw new NullPointerException("a Range's bounds can't be null");
+		this.lowest = lowest;
+		this.includesLowest = includesLowest;
+		this.highest = highest;
+		this.includesHighest = includesHighest;
+	}
+
+	private final T lowest;
+	private final boolean includesLowest;
+	private final T highest;
+	private final boolean includesHighest;
+}
@@ -0,0 +1,78 @@
+package ezgames.immatcher.matchers.files;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import ezgames.immatcher.Costed;
+import ezgames.immatcher.PreparedMatcher;
+import ezgames.immatcher.Result;
+import ezgames.immatcher.Values;
+
+/**
+ * Checks that a file has a line that's exactly the given one. Lines may end
+ * with {@code \n} or {@code \r\n}, and the file is assumed to be UTF-8.
+ * <p>
+ * The line is encoded once, when the matcher is made. The file is
+ * memory-mapped, or read if it's small, and searched in place, stopping at
+ * the first line that matches; only lines of the right length are
+ * compared.</p>
+ */
+public class FileContainsLine extends PreparedMatcher<Path> implements Costed {
+
+	FileContainsLine(String line) {
+		super(() -> "contained the line \"" + Values.render(line) + "\"", () -> "didn't contain the line \"" + Values.render(line) + "\"");
+		this.line = line.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public Result match(Path actual) {
+		try {
+			if(contains(MappedFile.map(actual)))
+				return passed();
+			else
+				return failure(actual);
+		}
+		catch(IOException e) {
+			return failedWith(() -> "couldn't be read: " + e);
+		}
+	}
+
+	@Override
+	protected boolean matches(Path actual) {
+		try {
+			return contains(MappedFile.map(actual));
+		}
+		catch(IOException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public long getCost() {
+		return IO;
+	}
+
+	private boolean contains(MappedFile file) {
+		long size = file.size();
+		long start = 0;
+		while(start < size) {
+			long end = start;
+			while(end < size && file.get(end) != '\n')
+				end++;
+			long contentEnd = end > start && file.get(end - 1) == '\r' ? end - 1 : end;
+			if(contentEnd - start == line.length && sameBytes(file, start))
+				return true;
+			start = end + 1;
+		}
+		return false;
+	}
+
+	private boolean sameBytes(MappedFile file, long start) {
+		for(int i = 0; i < line.length; i++)
+			if(file.get(start + i) != line[i])
+				return false;
+		return true;
+	}
+
+	private final byte[] line;
+}
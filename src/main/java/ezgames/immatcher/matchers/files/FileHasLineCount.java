@@ -0,0 +1,82 @@
+package ezgames.immatcher.matchers.files;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import ezgames.immatcher.Costed;
+import ezgames.immatcher.PreparedMatcher;
+import ezgames.immatcher.Result;
+
+/**
+ * Checks the number of lines in a file. A last line without a line break
+ * still counts as a line, so an empty file has none.
+ * <p>
+ * The file is memory-mapped, or read if it's small, and its line breaks are
+ * counted in place, stopping once it's found more lines than expected.</p>
+ */
+public class FileHasLineCount extends PreparedMatcher<Path> implements Costed {
+
+	FileHasLineCount(long count) {
+		super(MESSAGE_START + count + " lines", "did not have " + count + " lines");
+		if(count < 0)
+			throw new IllegalArgumentException("count must not be negative, but was " + count);
+		this.count = count;
+		this.moreThanCount = MESSAGE_START + "more than " + count + " lines";
+	}
+
+	@Override
+	public Result match(Path actual) {
+		long counted;
+		try {
+			counted = countOf(MappedFile.map(actual));
+		}
+		catch(IOException e) {
+			return failedWith(() -> "couldn't be read: " + e);
+		}
+
+		if(counted == count)
+			return passed();
+		else if(counted > count)
+			return failedWith(() -> moreThanCount);
+		else
+			return failedWith(() -> MESSAGE_START + counted + " lines");
+	}
+
+	@Override
+	protected boolean matches(Path actual) {
+		try {
+			return countOf(MappedFile.map(actual)) == count;
+		}
+		catch(IOException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public long getCost() {
+		return IO;
+	}
+
+	/**
+	 * Returns the number of lines in the file, or {@code count + 1} if it has
+	 * more than {@code count}.
+	 */
+	private long countOf(MappedFile file) {
+		long counted = 0;
+		for(int i = 0; i < file.chunkCount(); i++) {
+			ByteBuffer chunk = file.chunk(i);
+			for(int j = 0, length = chunk.limit(); j < length; j++) {
+				if(chunk.get(j) == '\n' && ++counted > count)
+					return counted;
+			}
+		}
+		if(file.size() > 0 && file.get(file.size() - 1) != '\n')
+			counted++;
+		return counted;
+	}
+
+	private final long count;
+	private final String moreThanCount;
+
+	private static final String MESSAGE_START = "had ";
+}
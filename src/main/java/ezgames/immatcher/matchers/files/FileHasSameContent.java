@@ -0,0 +1,110 @@
+package ezgames.immatcher.matchers.files;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import ezgames.immatcher.Costed;
+import ezgames.immatcher.PreparedMatcher;
+import ezgames.immatcher.Result;
+
+/**
+ * Checks that a file has exactly the same bytes as another, such as a golden
+ * file.
+ * <p>
+ * Both files are memory-mapped, or read if they're small, and compared in
+ * place, eight bytes at a time, stopping at the first difference. A failure
+ * gives the offset of that difference along with a few bytes of each file
+ * around it. Those bytes are read right away, so the {@code Result} doesn't
+ * keep the mappings alive, and a file that changes afterwards can't break its
+ * message.</p>
+ */
+public class FileHasSameContent extends PreparedMatcher<Path> implements Costed {
+
+	FileHasSameContent(Path expected) {
+		super("had the same content as " + expected, "didn't have the same content as " + expected);
+		this.expected = expected;
+	}
+
+	@Override
+	public Result match(Path actual) {
+		MappedFile actualFile;
+		MappedFile expectedFile;
+		try {
+			actualFile = MappedFile.map(actual);
+			expectedFile = MappedFile.map(expected);
+		}
+		catch(IOException e) {
+			return failedWith(() -> "couldn't be read: " + e);
+		}
+
+		long offset = firstDifference(actualFile, expectedFile);
+		if(offset < 0)
+			return passed();
+
+		String description = describe(offset, actualFile, expectedFile);
+		return failedWith(() -> description);
+	}
+
+	@Override
+	protected boolean matches(Path actual) {
+		try {
+			return firstDifference(MappedFile.map(actual), MappedFile.map(expected)) < 0;
+		}
+		catch(IOException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public long getCost() {
+		return IO;
+	}
+
+	/**
+	 * Returns the offset of the first byte that differs between the files, or
+	 * -1 if they're the same. If one file is the start of the other, the
+	 * difference is at the end of the shorter one.
+	 */
+	static long firstDifference(MappedFile one, MappedFile two) {
+		long common = Math.min(one.size(), two.size());
+		for(int i = 0; (long)i << MappedFile.CHUNK_SHIFT < common; i++) {
+			int difference = firstDifference(one.chunk(i), two.chunk(i));
+			if(difference >= 0)
+				return ((long)i << MappedFile.CHUNK_SHIFT) + difference;
+		}
+		return one.size() == two.size() ? -1 : common;
+	}
+
+	/**
+	 * Returns the index of the first byte that differs within the range both
+	 * buffers have, or -1 if there isn't one.
+	 */
+	private static int firstDifference(ByteBuffer one, ByteBuffer two) {
+		int length = Math.min(one.remaining(), two.remaining());
+		int i = 0;
+		for(; i + Long.BYTES <= length; i += Long.BYTES)
+			if(one.getLong(i) != two.getLong(i))
+				break;
+		for(; i < length; i++)
+			if(one.get(i) != two.get(i))
+				return i;
+		return -1;
+	}
+
+	private String describe(long offset, MappedFile actualFile, MappedFile expectedFile) {
+		return "differed from " + expected + " at offset " + offset + ":\n" +
+				"\texpected " + context(expectedFile, offset) + "\n" +
+				"\tbut was  " + context(actualFile, offset);
+	}
+
+	private static String context(MappedFile file, long offset) {
+		long start = Math.max(0, offset - CONTEXT);
+		long end = Math.min(file.size(), offset + CONTEXT);
+		return (start > 0 ? "..." : "") + "\"" + file.render(start, end) + "\"" +
+				(end < file.size() ? "..." : " <end of file>");
+	}
+
+	private final Path expected;
+
+	private static final int CONTEXT = 16;
+}
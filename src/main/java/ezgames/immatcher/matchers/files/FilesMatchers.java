@@ -0,0 +1,72 @@
+package ezgames.immatcher.matchers.files;
+
+import static ezgames.immatcher.Matchers.not;
+
+import java.nio.file.Path;
+import ezgames.immatcher.Matcher;
+
+/**
+ * {@code FilesMatchers} contains methods for creating {@code Matcher}s for
+ * files, given as {@code Path}s.
+ * <p>
+ * Files over 16MB are memory-mapped rather than read onto the heap, so they
+ * can be far bigger than would fit in a {@code String}. Smaller ones are just
+ * read. A file that can't be read fails the match, with the reason in the
+ * message.</p>
+ * <p>
+ * A memory-mapped file stays mapped until the mapping is garbage collected,
+ * and on some systems, such as Windows, a file can't be deleted or
+ * overwritten while it's mapped. Deleting a big file right after matching
+ * it, like a temporary directory of test output, may fail there until then.</p>
+ */
+public class FilesMatchers {
+	/**
+	 * Returns a {@code Matcher} that checks that the file under test has
+	 * exactly the same bytes as the given file.
+	 * @param expected - the file, such as a golden file, to compare with
+	 * @return a {@code Matcher} that compares file contents
+	 */
+	public static Matcher<Path> hasSameContentAs(Path expected) {
+		return new FileHasSameContent(expected);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the file under test doesn't
+	 * have the same bytes as the given file.
+	 * @param expected - the file to compare with
+	 * @return a {@code Matcher} that compares file contents
+	 */
+	public static Matcher<Path> doesNotHaveSameContentAs(Path expected) {
+		return not(hasSameContentAs(expected));
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the file under test has n
+	 * lines.
+	 * @param count - the expected number of lines; not negative
+	 * @return a {@code Matcher} that checks for a certain number of lines
+	 */
+	public static Matcher<Path> hasLineCount(long count) {
+		return new FileHasLineCount(count);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the file under test has a
+	 * line that's exactly the given one.
+	 * @param line - the line to look for, without its line break
+	 * @return a {@code Matcher} that looks for a line
+	 */
+	public static Matcher<Path> containsLine(String line) {
+		return new FileContainsLine(line);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the file under test has no
+	 * line that's exactly the given one.
+	 * @param line - the line to make sure isn't in the file
+	 * @return a {@code Matcher} that checks that a line is missing
+	 */
+	public static Matcher<Path> doesNotContainLine(String line) {
+		return not(containsLine(line));
+	}
+}
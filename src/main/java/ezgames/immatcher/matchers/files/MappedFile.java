@@ -0,0 +1,104 @@
+package ezgames.immatcher.matchers.files;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only view of a whole file. A single mapping can't be bigger than 2GB,
+ * so the file is mapped in fixed-size chunks; chunk {@code i} always starts at
+ * offset {@code i * CHUNK_SIZE}, so two files' chunks line up and can be
+ * compared a chunk at a time.
+ * <p>
+ * For a big file, nothing is copied onto the heap: the bytes are paged in by
+ * the OS as they're read, and only as far as they're read. A mapping can't be
+ * released, though, and lasts until it's garbage collected, and some systems,
+ * such as Windows, won't delete or overwrite a file while it's mapped. So a
+ * file of up to {@link #READ_LIMIT} bytes is read into a single heap buffer
+ * instead, and its channel is closed before it's looked at.</p>
+ */
+final class MappedFile {
+
+	static final int CHUNK_SHIFT = 28;
+	static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+	private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+	/** the size up to which a file is read rather than mapped */
+	static final int READ_LIMIT = 1 << 24;
+
+	static MappedFile map(Path path) throws IOException {
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if(size <= READ_LIMIT)
+				return read(channel, (int)size);
+
+			ByteBuffer[] chunks = new ByteBuffer[(int)((size + CHUNK_MASK) >>> CHUNK_SHIFT)];
+			for(int i = 0; i < chunks.length; i++) {
+				long start = (long)i << CHUNK_SHIFT;
+				chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(CHUNK_SIZE, size - start));
+			}
+			return new MappedFile(size, chunks);
+		}
+	}
+
+	/**
+	 * Reads up to {@code size} bytes of the channel into one chunk, stopping
+	 * early if the file turns out to be shorter.
+	 */
+	private static MappedFile read(FileChannel channel, int size) throws IOException {
+		ByteBuffer bytes = ByteBuffer.allocate(size);
+		while(bytes.hasRemaining() && channel.read(bytes) >= 0);
+		bytes.flip();
+		return new MappedFile(bytes.limit(), bytes.limit() == 0 ? new ByteBuffer[0] : new ByteBuffer[] { bytes });
+	}
+
+	long size() {
+		return size;
+	}
+
+	int chunkCount() {
+		return chunks.length;
+	}
+
+	/** Returns chunk {@code i}, which should only be read with absolute gets. */
+	ByteBuffer chunk(int i) {
+		return chunks[i];
+	}
+
+	byte get(long offset) {
+		return chunks[(int)(offset >>> CHUNK_SHIFT)].get((int)(offset & CHUNK_MASK));
+	}
+
+	/**
+	 * Returns the bytes from {@code start} to {@code end} as text, escaping
+	 * anything that isn't printable ASCII, for showing in a message.
+	 */
+	String render(long start, long end) {
+		StringBuilder builder = new StringBuilder();
+		for(long offset = start; offset < end; offset++) {
+			int b = get(offset) & 0xFF;
+			if(b == '\n')
+				builder.append("\\n");
+			else if(b == '\r')
+				builder.append("\\r");
+			else if(b == '\t')
+				builder.append("\\t");
+			else if(b == '"' || b == '\\')
+				builder.append('\\').append((char)b);
+			else if(b >= 0x20 && b < 0x7F)
+				builder.append((char)b);
+			else
+				builder.append(String.format("\\x%02X", b));
+		}
+		return builder.toString();
+	}
+
+	private MappedFile(long size, ByteBuffer[] chunks) {
+		this.size = size;
+		this.chunks = chunks;
+	}
+
+	private final long size;
+	private final ByteBuffer[] chunks;
+}
@@ -1,43 +1,86 @@
 package ezgames.immatcher.matchers.iterables;
 
-import static ezgames.immatcher.Matchers.invert;
+import static ezgames.immatcher.Matchers.not;
+
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import ezgames.immatcher.Matcher;
+import ezgames.immatcher.PreparedMatcher;
 import ezgames.immatcher.Result;
-import ezgames.immatcher.ResultBuilder;
 
-public class IterableHasSizeOf implements Matcher<Iterable<?>> {
-	
+/**
+ * Checks the number of elements in an {@code Iterable}.
+ * <p>
+ * {@code Collection}s and {@code Iterable}s with a {@code SIZED}
+ * {@code Spliterator} just report their size. Anything else is iterated, but
+ * only until it's gone past the expected size, so lazy sources like database
+ * cursors or generated (even infinite) sequences are never walked further than
+ * one element past the expected size. When that happens, the failure message
+ * says it "had size of more than N" rather than giving an exact count.</p>
+ */
+public class IterableHasSizeOf extends PreparedMatcher<Iterable<?>> {
+
 	public static IterableHasSizeOf hasSizeOf(int size) {
 		return new IterableHasSizeOf(size);
 	}
-	
+
 	public static Matcher<Iterable<?>> doesNotHaveSizeOf(int size) {
-		return INSTANCE.invert(hasSizeOf(size), "did not have size of " + size);
+		return not(hasSizeOf(size));
 	}
 
 	private final int size;
-	private final String messageStart;
-	private final String expectedMessage;
-	
+	private final String moreThanSize;
+
 	IterableHasSizeOf(int size) {
+		super(MESSAGE_START + size, "did not have size of " + size);
+		if(size < 0)
+			throw new IllegalArgumentException("size must not be negative, but was " + size);
 		this.size = size;
-		messageStart = "had size of ";
-		expectedMessage = messageStart + size;
+		this.moreThanSize = MESSAGE_START + "more than " + size;
 	}
-	
-	@SuppressWarnings("unused")
+
+	@Override
 	public Result match(Iterable<?> actual) {
-		int count = 0;
-		for(Object el : actual) {
-			count++;
-		}
-		
-		ResultBuilder result = ResultBuilder.withMessages(expectedMessage, messageStart + count);
-		
-		if(count == size) 
-			return result.pass();
+		long count = countOf(actual);
+
+		if(count == size)
+			return passed();
+		else if(count == MORE_THAN_SIZE)
+			return failedWith(() -> moreThanSize);
 		else
-			return result.fail();
+			return failedWith(() -> MESSAGE_START + count);
+	}
+
+	@Override
+	protected boolean matches(Iterable<?> actual) {
+		return countOf(actual) == size;
+	}
+
+	/**
+	 * Returns the number of elements in {@code actual}, or
+	 * {@link #MORE_THAN_SIZE} if it had to be iterated and turned out to have
+	 * more than {@code size} elements. Since {@code size} is never negative,
+	 * the marker can't be mistaken for a size that passes.
+	 */
+	private long countOf(Iterable<?> actual) {
+		if(actual instanceof Collection)
+			return ((Collection<?>)actual).size();
+
+		Spliterator<?> elements = actual.spliterator();
+		long exactSize = elements.getExactSizeIfKnown();
+		if(exactSize >= 0)
+			return exactSize;
+
+		long count = 0;
+		while(elements.tryAdvance(IGNORE)) {
+			if(++count > size)
+				return MORE_THAN_SIZE;
+		}
+		return count;
 	}
 
+	private static final String MESSAGE_START = "had size of ";
+	private static final long MORE_THAN_SIZE = -1;
+	private static final Consumer<Object> IGNORE = el -> {};
 }
@@ -8,7 +8,7 @@ public class IterablesMatchers {
 	/**
 	 * Returns a {@code Matcher} that checks that the {@code Iterable} under test
 	 * has n elements.
-	 * @param size - the expected number of elements
+	 * @param size - the expected number of elements; not negative
 	 * @return a {@code Matcher} that checks for a certain size
 	 */
 	public static Matcher<Iterable<?>> hasSizeOf(int size) {
@@ -18,10 +18,10 @@ public class IterablesMatchers {
 	/**
 	 * Returns a {@code Matcher} that checks that the {@code Iterable} under test
 	 * does not have n elements.
-	 * @param size - the number of elements not expected
+	 * @param size - the number of elements not expected; not negative
 	 * @return a {@code Matcher} that checks for the lack of a certain size
 	 */
 	public static Matcher<Iterable<?>> doesNotHaveSizeOf(int size) {
-		return invert(hasSizeOf(size), "did not have size of " + size);
+		return not(hasSizeOf(size));
 	}
 }
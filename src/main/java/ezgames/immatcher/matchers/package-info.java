@@ -12,4 +12,4 @@
  * as {@code isNull()}. The {@code Matcher}s in this package are ones that work
  * with all objects.</p>
  */
-package com.collaborative.matcherlib.matchers;
\ No newline at end of file
+package ezgames.immatcher.matchers;
\ No newline at end of file
@@ -0,0 +1,169 @@
+package ezgames.immatcher.matchers.properties;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * {@code Accessors} finds how to read a named property of a class, and
+ * remembers it per class in a {@code ClassValue}, so that each property of
+ * each class is only looked up once.
+ * <p>
+ * A property {@code name} is read by the first of {@code getName()},
+ * {@code isName()}, {@code name()} or a public field {@code name} that the
+ * class has. Public methods of public classes are turned into a
+ * {@code Function} by {@code LambdaMetafactory}, which the JIT can inline
+ * like a direct call to the getter. Anything else is read through a
+ * {@code MethodHandle}, made accessible if it has to be.</p>
+ */
+final class Accessors {
+
+	/**
+	 * Returns the accessor for the property of {@code type}, or {@code null}
+	 * if it has no such property.
+	 */
+	static Function<Object, Object> of(Class<?> type, String property) {
+		return BY_CLASS.get(type).computeIfAbsent(property, name -> find(type, name)).accessor;
+	}
+
+	private static Found find(Class<?> type, String property) {
+		String capitalized = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+		for(String name : new String[] { "get" + capitalized, "is" + capitalized, property }) {
+			Method method = publicGetter(type, name);
+			if(method != null && (!name.startsWith("is") || method.getReturnType() == boolean.class))
+				return new Found(accessorFor(method));
+		}
+		try {
+			Field field = type.getField(property);
+			if(!Modifier.isStatic(field.getModifiers()))
+				return new Found(fromHandle(LOOKUP.unreflectGetter(field)));
+		}
+		catch(NoSuchFieldException | IllegalAccessException e) {
+			// not a readable field either
+		}
+		return Found.NOTHING;
+	}
+
+	private static Method publicGetter(Class<?> type, String name) {
+		try {
+			Method method = type.getMethod(name);
+			if(method.getReturnType() == void.class || Modifier.isStatic(method.getModifiers()))
+				return null;
+			return method;
+		}
+		catch(NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> accessorFor(Method method) {
+		Method accessible = accessibleVersionOf(method);
+		if(accessible != null) {
+			try {
+				MethodHandle getter = LOOKUP.unreflect(accessible);
+				Class<?> returned = MethodType.methodType(accessible.getReturnType()).wrap().returnType();
+				CallSite site = LambdaMetafactory.metafactory(
+						LOOKUP,
+						"apply",
+						MethodType.methodType(Function.class),
+						MethodType.methodType(Object.class, Object.class),
+						getter,
+						MethodType.methodType(returned, accessible.getDeclaringClass()));
+				return (Function<Object, Object>)site.getTarget().invokeExact();
+			}
+			catch(Throwable e) {
+				// e.g. the class isn't visible from this class loader
+			}
+		}
+		try {
+			method.setAccessible(true);
+			return fromHandle(LOOKUP.unreflect(method));
+		}
+		catch(IllegalAccessException | RuntimeException e) {
+			return target -> {
+				throw new IllegalStateException("couldn't read " + method, e);
+			};
+		}
+	}
+
+	/**
+	 * Returns the method, or the one it overrides, from a public class, so
+	 * that it can be called without reflection's access checks; or
+	 * {@code null} if there isn't one.
+	 */
+	private static Method accessibleVersionOf(Method method) {
+		Class<?> declaring = method.getDeclaringClass();
+		if(Modifier.isPublic(declaring.getModifiers()))
+			return method;
+		for(Class<?> type = declaring; type != null; type = type.getSuperclass()) {
+			for(Class<?> supertype : type.getInterfaces()) {
+				Method found = accessibleIn(supertype, method.getName());
+				if(found != null)
+					return found;
+			}
+			Method found = type == declaring ? null : accessibleIn(type, method.getName());
+			if(found != null)
+				return found;
+		}
+		return null;
+	}
+
+	private static Method accessibleIn(Class<?> type, String name) {
+		if(!Modifier.isPublic(type.getModifiers()))
+			return null;
+		try {
+			return type.getMethod(name);
+		}
+		catch(NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	private static Function<Object, Object> fromHandle(MethodHandle handle) {
+		MethodHandle getter = handle.asType(MethodType.methodType(Object.class, Object.class));
+		return target -> {
+			try {
+				return getter.invokeExact(target);
+			}
+			catch(RuntimeException | Error e) {
+				throw e;
+			}
+			catch(Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		};
+	}
+
+	private Accessors() {}
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final ClassValue<ConcurrentHashMap<String, Found>> BY_CLASS = new ClassValue<ConcurrentHashMap<String, Found>>() {
+		@Override
+		protected ConcurrentHashMap<String, Found> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	/**
+	 * The outcome of looking a property up, which is cached even when there
+	 * was no such property.
+	 */
+	private static final class Found {
+		Found(Function<Object, Object> accessor) {
+			this.accessor = accessor;
+		}
+
+		static final Found NOTHING = new Found(null);
+
+		final Function<Object, Object> accessor;
+	}
+}
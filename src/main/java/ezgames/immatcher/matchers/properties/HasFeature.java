@@ -0,0 +1,104 @@
+package ezgames.immatcher.matchers.properties;
+
+import java.util.function.Function;
+import ezgames.immatcher.Matcher;
+import ezgames.immatcher.Result;
+import ezgames.immatcher.matchers.properties.PropertyPath.Missing;
+
+/**
+ * Checks a feature of an object, extracted by a {@code Function}, against
+ * another {@code Matcher}. The messages are the other {@code Matcher}'s,
+ * under a line naming the feature.
+ * <p>
+ * For a property path, the {@code Function} is a {@link PropertyPath}, and a
+ * path that can't be followed fails both `match()` and `notMatches()`, since
+ * there's no value to check either way. The same goes for a value that isn't
+ * of the type given for the property, which is checked before the other
+ * {@code Matcher} is given the value.</p>
+ */
+public class HasFeature<T, U> implements Matcher<T> {
+
+	HasFeature(String description, Function<? super T, ? extends U> feature, Matcher<? super U> matcher) {
+		this(description, feature, null, matcher);
+	}
+
+	/**
+	 * Makes a {@code HasFeature} whose values are checked to be instances of
+	 * {@code type}, or {@code null}, before they're given to {@code matcher}.
+	 * A {@code null} type skips the check.
+	 */
+	HasFeature(String description, Function<? super T, ?> feature, Class<U> type, Matcher<? super U> matcher) {
+		this.description = description;
+		this.feature = feature;
+		this.type = type;
+		this.matcher = matcher;
+	}
+
+	@Override
+	public Result match(T actual) {
+		Object value = feature.apply(actual);
+		if(value instanceof Missing)
+			return missing((Missing)value);
+		if(type != null && value != null && !type.isInstance(value))
+			return wrongType(value);
+		return nested(matcher.match(cast(value)));
+	}
+
+	@Override
+	public Result notMatches(T actual) {
+		Object value = feature.apply(actual);
+		if(value instanceof Missing)
+			return missing((Missing)value);
+		if(type != null && value != null && !type.isInstance(value))
+			return wrongType(value);
+		return nested(matcher.notMatches(cast(value)));
+	}
+
+	/**
+	 * Wraps the other {@code Matcher}'s {@code Result}. Prepared
+	 * {@code Result}s come back as the same object every time, so the last
+	 * one wrapped is kept to be reused.
+	 */
+	private Result nested(Result result) {
+		Wrapped last = this.last;
+		if(last != null && last.inner == result)
+			return last.outer;
+		Result outer = new Result(result.failed(),
+				out -> { out.append("had ").append(description).append(" that:\n"); result.appendExpected(out); },
+				out -> { out.append("had ").append(description).append(" that:\n"); result.appendOnFailure(out); },
+				out -> { out.append("had ").append(description).append(" that:\n"); result.appendActual(out); });
+		this.last = new Wrapped(result, outer);
+		return outer;
+	}
+
+	private Result missing(Missing missing) {
+		return new Result(true, "had " + description, missing.reason);
+	}
+
+	private Result wrongType(Object value) {
+		return new Result(true, "had " + description + " of " + type.getName(),
+				"had " + description + " of " + value.getClass().getName() + ", which wasn't a " + type.getName());
+	}
+
+	@SuppressWarnings("unchecked")
+	private U cast(Object value) {
+		return (U)value;
+	}
+
+	private final String description;
+	private final Function<? super T, ?> feature;
+	private final Class<U> type;
+	private final Matcher<? super U> matcher;
+	// racy, but Wrapped is immutable, so every thread sees a whole one
+	private Wrapped last;
+
+	private static final class Wrapped {
+		Wrapped(Result inner, Result outer) {
+			this.inner = inner;
+			this.outer = outer;
+		}
+
+		final Result inner;
+		final Result outer;
+	}
+}
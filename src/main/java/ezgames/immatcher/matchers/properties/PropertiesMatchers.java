@@ -0,0 +1,77 @@
+package ezgames.immatcher.matchers.properties;
+
+import java.lang.invoke.MethodType;
+import java.util.function.Function;
+import ezgames.immatcher.Matcher;
+
+/**
+ * {@code PropertiesMatchers} contains methods for creating {@code Matcher}s
+ * that check a property or other feature of an object with another
+ * {@code Matcher}.
+ * <p>
+ * Property paths are compiled once, when the {@code Matcher} is made, and the
+ * getter for each property of each class is only looked up once, then kept
+ * as a {@code Function} that costs about as much to call as the getter
+ * itself. That makes these cheap enough to run over millions of objects,
+ * such as with {@code Assertions.checkAll()}.</p>
+ */
+public class PropertiesMatchers {
+	/**
+	 * Returns a {@code Matcher} that checks the property at the given path of
+	 * the object under test. Each step of the path, such as the
+	 * {@code address} of {@code "customer.address.zip"}, is read with a
+	 * {@code getAddress()}, {@code isAddress()} or {@code address()} method,
+	 * or a public {@code address} field. It fails if the path can't be
+	 * followed. The type of the property isn't known until it's read, so
+	 * {@code matcher} must accept any value; to check the property with a
+	 * {@code Matcher} of a narrower type, give the type with
+	 * {@link #hasProperty(String, Class, Matcher)}.
+	 * @param path - the dotted path of the property
+	 * @param matcher - checks the value of the property
+	 * @return a {@code Matcher} that checks the property
+	 */
+	public static Matcher<Object> hasProperty(String path, Matcher<Object> matcher) {
+		return new HasFeature<>("property " + path, new PropertyPath(path), matcher);
+	}
+
+	/**
+	 * The same as {@link #hasProperty(String, Matcher)}, for a property that
+	 * should be of the given type. The match fails, naming the property's
+	 * actual class, if the value isn't of that type, and {@code matcher} is
+	 * only given values that are. A {@code null} value is given to it as is.
+	 * A primitive type stands for its wrapper, since properties are read
+	 * boxed.
+	 * @param path - the dotted path of the property
+	 * @param type - the type the property should be
+	 * @param matcher - checks the value of the property
+	 * @return a {@code Matcher} that checks the property
+	 */
+	@SuppressWarnings("unchecked")
+	public static <U> Matcher<Object> hasProperty(String path, Class<U> type, Matcher<? super U> matcher) {
+		Class<U> boxed = (Class<U>)MethodType.methodType(type).wrap().returnType();
+		return new HasFeature<>("property " + path, new PropertyPath(path), boxed, matcher);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks the feature extracted from the
+	 * object under test by the given {@code Function}.
+	 * @param feature - extracts the feature to check
+	 * @param matcher - checks the feature
+	 * @return a {@code Matcher} that checks the feature
+	 */
+	public static <T, U> Matcher<T> hasFeature(Function<? super T, ? extends U> feature, Matcher<? super U> matcher) {
+		return new HasFeature<>("a feature", feature, matcher);
+	}
+
+	/**
+	 * The same as {@link #hasFeature(Function, Matcher)}, with a description
+	 * of the feature for the messages, such as "a status".
+	 * @param description - names the feature in the messages
+	 * @param feature - extracts the feature to check
+	 * @param matcher - checks the feature
+	 * @return a {@code Matcher} that checks the feature
+	 */
+	public static <T, U> Matcher<T> hasFeature(String description, Function<? super T, ? extends U> feature, Matcher<? super U> matcher) {
+		return new HasFeature<>(description, feature, matcher);
+	}
+}
@@ -0,0 +1,106 @@
+package ezgames.immatcher.matchers.properties;
+
+import java.util.function.Function;
+
+/**
+ * A dotted property path, such as {@code "customer.address.zip"}, compiled
+ * once into a chain of steps that each read one property.
+ * <p>
+ * Each step remembers the class it last read from along with its accessor,
+ * so reading objects of the same classes over and over, as a matcher does,
+ * skips even the {@code ClassValue} lookup in {@link Accessors}.</p>
+ * <p>
+ * When the path can't be followed, because a property doesn't exist or an
+ * object along the way is {@code null}, {@link #read(Object)} returns a
+ * {@link Missing} saying so instead of the value.</p>
+ */
+final class PropertyPath implements Function<Object, Object> {
+
+	PropertyPath(String path) {
+		String[] names = path.split("\\.", -1);
+		this.steps = new Step[names.length];
+		for(int i = 0; i < names.length; i++) {
+			if(names[i].isEmpty())
+				throw new IllegalArgumentException("\"" + path + "\" isn't a valid property path");
+			steps[i] = new Step(names[i]);
+		}
+		this.path = path;
+	}
+
+	@Override
+	public Object apply(Object target) {
+		return read(target);
+	}
+
+	/**
+	 * Returns the value at the end of the path, or a {@code Missing} if the
+	 * path couldn't be followed.
+	 */
+	Object read(Object target) {
+		Object value = target;
+		for(int i = 0; i < steps.length; i++) {
+			if(value == null)
+				return new Missing(i == 0 ? "was null" : "had null at " + prefix(i));
+			Function<Object, Object> accessor = steps[i].accessorFor(value.getClass());
+			if(accessor == null)
+				return new Missing("had no property " + steps[i].name + " on " + value.getClass().getName());
+			value = accessor.apply(value);
+		}
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		return path;
+	}
+
+	private String prefix(int length) {
+		StringBuilder prefix = new StringBuilder(steps[0].name);
+		for(int i = 1; i < length; i++)
+			prefix.append('.').append(steps[i].name);
+		return prefix.toString();
+	}
+
+	private final Step[] steps;
+	private final String path;
+
+	/**
+	 * Stands in for the value when the path couldn't be followed.
+	 */
+	static final class Missing {
+		Missing(String reason) {
+			this.reason = reason;
+		}
+
+		final String reason;
+	}
+
+	private static final class Step {
+		Step(String name) {
+			this.name = name;
+		}
+
+		Function<Object, Object> accessorFor(Class<?> type) {
+			Resolved last = this.last;
+			if(last != null && last.type == type)
+				return last.accessor;
+			Function<Object, Object> accessor = Accessors.of(type, name);
+			this.last = new Resolved(type, accessor);
+			return accessor;
+		}
+
+		final String name;
+		// racy, but Resolved is immutable, so every thread sees a whole one
+		private Resolved last;
+	}
+
+	private static final class Resolved {
+		Resolved(Class<?> type, Function<Object, Object> accessor) {
+			this.type = type;
+			this.accessor = accessor;
+		}
+
+		final Class<?> type;
+		final Function<Object, Object> accessor;
+	}
+}
@@ -0,0 +1,46 @@
+package ezgames.immatcher.matchers.streams;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import ezgames.immatcher.Matcher;
+import ezgames.immatcher.Result;
+
+/**
+ * Runs a {@code Matcher} over the elements of a {@code Stream} until one of
+ * them passes, or one of them fails, depending on what's being looked for.
+ * Nothing is kept but the {@code Result} that ended the search.
+ */
+final class ElementSearch<T> implements Consumer<T> {
+
+	/**
+	 * Returns the first {@code Result} (in encounter order) whose failure is
+	 * {@code failing}, or {@code null} if there wasn't one. A parallel
+	 * {@code Stream} is searched in parallel.
+	 */
+	static <T> Result find(Stream<? extends T> elements, Matcher<? super T> matcher, boolean failing) {
+		if(elements.isParallel())
+			return elements.map(matcher::match).filter(result -> result.failed() == failing).findFirst().orElse(null);
+
+		ElementSearch<T> search = new ElementSearch<>(matcher, failing);
+		Spliterator<? extends T> spliterator = elements.spliterator();
+		while(search.found == null && spliterator.tryAdvance(search));
+		return search.found;
+	}
+
+	@Override
+	public void accept(T element) {
+		Result result = matcher.match(element);
+		if(result.failed() == failing)
+			found = result;
+	}
+
+	private ElementSearch(Matcher<? super T> matcher, boolean failing) {
+		this.matcher = matcher;
+		this.failing = failing;
+	}
+
+	private final Matcher<? super T> matcher;
+	private final boolean failing;
+	private Result found;
+}
@@ -0,0 +1,40 @@
+package ezgames.immatcher.matchers.streams;
+
+import java.util.stream.Stream;
+import ezgames.immatcher.Matcher;
+import ezgames.immatcher.PreparedMatcher;
+import ezgames.immatcher.Result;
+
+/**
+ * Checks that every element of a {@code Stream} passes a {@code Matcher},
+ * consuming the {@code Stream} only up to the first one that doesn't. A
+ * parallel {@code Stream} is checked in parallel, and still reports the first
+ * failing element in encounter order.
+ */
+public class StreamAllMatch<T> extends PreparedMatcher<Stream<? extends T>> {
+
+	StreamAllMatch(Matcher<? super T> matcher) {
+		super("had only matching elements", "had an element that didn't match");
+		this.matcher = matcher;
+	}
+
+	@Override
+	public Result match(Stream<? extends T> actual) {
+		Result failure = firstFailure(actual);
+		if(failure == null)
+			return passed();
+		else
+			return failedWith(() -> "had an element that:\n" + failure.getActual());
+	}
+
+	@Override
+	protected boolean matches(Stream<? extends T> actual) {
+		return firstFailure(actual) == null;
+	}
+
+	private Result firstFailure(Stream<? extends T> actual) {
+		return ElementSearch.find(actual, matcher, true);
+	}
+
+	private final Matcher<? super T> matcher;
+}
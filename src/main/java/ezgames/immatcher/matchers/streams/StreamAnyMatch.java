@@ -0,0 +1,25 @@
+package ezgames.immatcher.matchers.streams;
+
+import java.util.stream.Stream;
+import ezgames.immatcher.Matcher;
+import ezgames.immatcher.PreparedMatcher;
+
+/**
+ * Checks that at least one element of a {@code Stream} passes a
+ * {@code Matcher}, consuming the {@code Stream} only up to the first one that
+ * does. A parallel {@code Stream} is checked in parallel.
+ */
+public class StreamAnyMatch<T> extends PreparedMatcher<Stream<? extends T>> {
+
+	StreamAnyMatch(Matcher<? super T> matcher) {
+		super("had a matching element", "had no matching elements");
+		this.matcher = matcher;
+	}
+
+	@Override
+	protected boolean matches(Stream<? extends T> actual) {
+		return ElementSearch.find(actual, matcher, false) != null;
+	}
+
+	private final Matcher<? super T> matcher;
+}
@@ -0,0 +1,72 @@
+package ezgames.immatcher.matchers.streams;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import ezgames.immatcher.PreparedMatcher;
+import ezgames.immatcher.Result;
+import ezgames.immatcher.Values;
+
+/**
+ * Checks that a {@code Stream} contains the given elements in the given order,
+ * though other elements may come between them. The {@code Stream} is consumed
+ * only until the last of the given elements is found, and only the position in
+ * the given elements is kept while doing so.
+ * <p>
+ * Since order is the whole point, parallel {@code Stream}s are consumed in
+ * encounter order, one element at a time.</p>
+ */
+public class StreamContainsInOrder<T> extends PreparedMatcher<Stream<? extends T>> {
+
+	StreamContainsInOrder(List<? extends T> elements) {
+		super(() -> "contained " + Values.render(elements) + " in order",
+		      () -> "did not contain " + Values.render(elements) + " in order");
+		this.elements = elements;
+	}
+
+	@Override
+	public Result match(Stream<? extends T> actual) {
+		int found = countFound(actual);
+		if(found == elements.size())
+			return passed();
+		else
+			return failedWith(() -> describe(found));
+	}
+
+	@Override
+	protected boolean matches(Stream<? extends T> actual) {
+		return countFound(actual) == elements.size();
+	}
+
+	/**
+	 * Returns how many of the given elements were found in order.
+	 */
+	private int countFound(Stream<? extends T> actual) {
+		Progress progress = new Progress();
+		Spliterator<? extends T> spliterator = actual.spliterator();
+		while(progress.found < elements.size() && spliterator.tryAdvance(progress));
+		return progress.found;
+	}
+
+	private String describe(int found) {
+		if(found == 0)
+			return "didn't contain " + Values.render(elements.get(0));
+		else
+			return "contained " + Values.render(elements.subList(0, found)) + " in order, but not " +
+					Values.render(elements.get(found)) + " after them";
+	}
+
+	private final List<? extends T> elements;
+
+	private final class Progress implements Consumer<T> {
+		@Override
+		public void accept(T element) {
+			if(Objects.equals(element, elements.get(found)))
+				found++;
+		}
+
+		int found = 0;
+	}
+}
@@ -0,0 +1,72 @@
+package ezgames.immatcher.matchers.streams;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import ezgames.immatcher.PreparedMatcher;
+import ezgames.immatcher.Result;
+
+/**
+ * Checks the number of elements in a {@code Stream}, consuming it.
+ * <p>
+ * If the {@code Stream} knows its size up front, none of its elements are
+ * visited. Otherwise it's only consumed until it's gone one element past the
+ * expected count, so infinite {@code Stream}s fail rather than hang. A parallel
+ * {@code Stream} is counted in parallel.</p>
+ */
+public class StreamHasCount extends PreparedMatcher<Stream<?>> {
+
+	StreamHasCount(long count) {
+		super(MESSAGE_START + count, "did not have count of " + count);
+		if(count < 0)
+			throw new IllegalArgumentException("count must not be negative, but was " + count);
+		this.count = count;
+		this.moreThanCount = MESSAGE_START + "more than " + count;
+	}
+
+	@Override
+	public Result match(Stream<?> actual) {
+		long counted = countOf(actual);
+
+		if(counted == count)
+			return passed();
+		else if(counted > count)
+			return failedWith(() -> moreThanCount);
+		else
+			return failedWith(() -> MESSAGE_START + counted);
+	}
+
+	@Override
+	protected boolean matches(Stream<?> actual) {
+		return countOf(actual) == count;
+	}
+
+	/**
+	 * Returns the number of elements in {@code actual}, or {@code count + 1} if
+	 * it had to be consumed and turned out to have more than {@code count}.
+	 * For a {@code count} of {@code Long.MAX_VALUE}, which can't be exceeded,
+	 * the limit stays at {@code count}.
+	 */
+	private long countOf(Stream<?> actual) {
+		boolean parallel = actual.isParallel();
+		Spliterator<?> elements = actual.spliterator();
+		long exactSize = elements.getExactSizeIfKnown();
+		if(exactSize >= 0)
+			return exactSize;
+
+		if(parallel)
+			return StreamSupport.stream(elements, true).unordered().limit(count == Long.MAX_VALUE ? count : count + 1).count();
+
+		long counted = 0;
+		while(counted <= count && elements.tryAdvance(IGNORE))
+			counted++;
+		return counted;
+	}
+
+	private final long count;
+	private final String moreThanCount;
+
+	private static final String MESSAGE_START = "had count of ";
+	private static final Consumer<Object> IGNORE = el -> {};
+}
@@ -0,0 +1,40 @@
+package ezgames.immatcher.matchers.streams;
+
+import java.util.stream.Stream;
+import ezgames.immatcher.Matcher;
+import ezgames.immatcher.PreparedMatcher;
+import ezgames.immatcher.Result;
+
+/**
+ * Checks that no element of a {@code Stream} passes a {@code Matcher},
+ * consuming the {@code Stream} only up to the first one that does. A parallel
+ * {@code Stream} is checked in parallel, and still reports the first matching
+ * element in encounter order.
+ */
+public class StreamNoneMatch<T> extends PreparedMatcher<Stream<? extends T>> {
+
+	StreamNoneMatch(Matcher<? super T> matcher) {
+		super("had no matching elements", "had a matching element");
+		this.matcher = matcher;
+	}
+
+	@Override
+	public Result match(Stream<? extends T> actual) {
+		Result match = firstMatch(actual);
+		if(match == null)
+			return passed();
+		else
+			return failedWith(() -> "had an element that:\n" + match.getExpected());
+	}
+
+	@Override
+	protected boolean matches(Stream<? extends T> actual) {
+		return firstMatch(actual) == null;
+	}
+
+	private Result firstMatch(Stream<? extends T> actual) {
+		return ElementSearch.find(actual, matcher, false);
+	}
+
+	private final Matcher<? super T> matcher;
+}
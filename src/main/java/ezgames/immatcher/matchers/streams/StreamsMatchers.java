@@ -0,0 +1,110 @@
+package ezgames.immatcher.matchers.streams;
+
+import static ezgames.immatcher.Matchers.not;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import ezgames.immatcher.Matcher;
+import ezgames.immatcher.Result;
+
+/**
+ * {@code StreamsMatchers} contains methods for creating {@code Matcher}s for
+ * {@code Stream}s.
+ * <p>
+ * A {@code Stream} can only be consumed once, so each of these consumes the
+ * {@code Stream} it's given, but only as far as it has to. None of them keep
+ * the elements around, so they work on {@code Stream}s far too big to collect
+ * into a {@code List}. Those that can are run in parallel on parallel
+ * {@code Stream}s.</p>
+ * <p>
+ * To use them with a {@code Spliterator}, wrap them with
+ * {@link #forSpliterator(Matcher)}.</p>
+ */
+public class StreamsMatchers {
+	/**
+	 * Returns a {@code Matcher} that checks that the {@code Stream} under test
+	 * has n elements.
+	 * @param count - the expected number of elements; not negative
+	 * @return a {@code Matcher} that checks for a certain count
+	 */
+	public static Matcher<Stream<?>> hasCount(long count) {
+		return new StreamHasCount(count);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the {@code Stream} under test
+	 * does not have n elements.
+	 * @param count - the number of elements not expected; not negative
+	 * @return a {@code Matcher} that checks for the lack of a certain count
+	 */
+	public static Matcher<Stream<?>> doesNotHaveCount(long count) {
+		return not(hasCount(count));
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that every element of the
+	 * {@code Stream} under test passes the given {@code Matcher}.
+	 * @param matcher - the {@code Matcher} every element must pass
+	 * @return a {@code Matcher} that checks every element
+	 */
+	public static <T> Matcher<Stream<? extends T>> allMatch(Matcher<? super T> matcher) {
+		return new StreamAllMatch<>(matcher);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that at least one element of the
+	 * {@code Stream} under test passes the given {@code Matcher}.
+	 * @param matcher - the {@code Matcher} an element must pass
+	 * @return a {@code Matcher} that looks for a passing element
+	 */
+	public static <T> Matcher<Stream<? extends T>> anyMatch(Matcher<? super T> matcher) {
+		return new StreamAnyMatch<>(matcher);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that no element of the
+	 * {@code Stream} under test passes the given {@code Matcher}.
+	 * @param matcher - the {@code Matcher} no element may pass
+	 * @return a {@code Matcher} that checks that no element passes
+	 */
+	public static <T> Matcher<Stream<? extends T>> noneMatch(Matcher<? super T> matcher) {
+		return new StreamNoneMatch<>(matcher);
+	}
+
+	/**
+	 * Returns a {@code Matcher} that checks that the {@code Stream} under test
+	 * contains the given elements in the given order, possibly with other
+	 * elements between them.
+	 * @param elements - the elements to look for, in order
+	 * @return a {@code Matcher} that checks for the elements in order
+	 */
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	public static <T> Matcher<Stream<? extends T>> containsInOrder(T... elements) {
+		return new StreamContainsInOrder<>(new ArrayList<>(Arrays.asList(elements)));
+	}
+
+	/**
+	 * Returns a {@code Matcher} of {@code Spliterator}s that runs the given
+	 * {@code Stream} {@code Matcher} on a sequential {@code Stream} of the
+	 * {@code Spliterator} under test.
+	 * @param matcher - the {@code Stream} {@code Matcher} to run
+	 * @return a {@code Matcher} of {@code Spliterator}s
+	 */
+	public static <T> Matcher<Spliterator<? extends T>> forSpliterator(Matcher<? super Stream<? extends T>> matcher) {
+		return new Matcher<Spliterator<? extends T>>() {
+			@Override
+			public Result match(Spliterator<? extends T> actual) {
+				return matcher.match(StreamSupport.stream(actual, false));
+			}
+
+			@Override
+			public Result notMatches(Spliterator<? extends T> actual) {
+				return matcher.notMatches(StreamSupport.stream(actual, false));
+			}
+		};
+	}
+}
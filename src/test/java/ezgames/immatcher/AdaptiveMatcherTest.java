@@ -0,0 +1,66 @@
+package ezgames.immatcher;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static ezgames.immatcher.Assertions.*;
+import static ezgames.immatcher.Matchers.*;
+import static ezgames.immatcher.matchers.ResultMatchers.*;
+import static ezgames.immatcher.mocks.MockMatcher.*;
+
+import static org.junit.Assert.*;
+
+@SuppressWarnings("unchecked")
+public class AdaptiveMatcherTest
+{
+   @Test public void testLearnsToCheckTheDecisiveMatcherFirst()
+   {
+      AdaptiveMatcher<String> matcher = adaptiveAllOf(passes(), passes(), fails());
+
+      for(int i = 0; i < 20_000; i++)
+         matcher.match("");
+
+      assertEquals(2, matcher.getOrder()[0]);
+   }
+
+   @Test public void testMessagesKeepDeclarationOrder()
+   {
+      AdaptiveMatcher<String> matcher = adaptiveAnyOf(fails(), fails(), passes());
+
+      for(int i = 0; i < 20_000; i++)
+         matcher.match("");
+      Result result = matcher.match("");
+
+      assertThat(result, passed());
+      assertEquals("\tOR(\n\tpassed)", result.getActual());
+      assertEquals("\tNOT OR(\n\tpassed)", matcher.notMatches("").getExpected());
+   }
+
+   @Test public void testFrozenMatcherKeepsTheLearnedOrder()
+   {
+      AtomicInteger expensiveRuns = new AtomicInteger();
+      Matcher<String> expensive = new Matcher<String>()
+      {
+         public Result match(String actual)
+         {
+            expensiveRuns.incrementAndGet();
+            return Result.PASSED;
+         }
+
+         public Result notMatches(String actual)
+         {
+            return Result.PASSED;
+         }
+      };
+      AdaptiveMatcher<String> matcher = adaptiveAllOf(expensive, fails());
+
+      for(int i = 0; i < 20_000; i++)
+         matcher.match("");
+      Matcher<String> frozen = matcher.freeze();
+      expensiveRuns.set(0);
+
+      assertThat(frozen.match(""), failed());
+      assertEquals(0, expensiveRuns.get());
+   }
+}
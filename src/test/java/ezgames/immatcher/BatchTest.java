@@ -0,0 +1,74 @@
+package ezgames.immatcher;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static ezgames.immatcher.mocks.MockMatcher.*;
+import static org.junit.Assert.*;
+
+public class BatchTest
+{
+   @Test public void testCheckAllPasses()
+   {
+      List<String> values = new ArrayList<>();
+      for(int i = 0; i < 100; i++)
+         values.add("value" + i);
+
+      BatchReport report = Assertions.checkAll(values, passes());
+
+      assertFalse(report.failed());
+      assertEquals(100, report.getCheckedCount());
+      assertTrue(report.getFailures().isEmpty());
+   }
+
+   @Test public void testCheckAllKeepsFirstFailures()
+   {
+      List<String> values = new ArrayList<>();
+      for(int i = 0; i < 100; i++)
+         values.add("value" + i);
+
+      BatchReport report = Assertions.checkAll(values, fails(), 3);
+
+      assertEquals(100, report.getFailureCount());
+      assertEquals(3, report.getFailures().size());
+      assertEquals(2, report.getFailures().get(2).getIndex());
+   }
+
+   @Test public void testParallelCheckAllReportsLowestIndexes()
+   {
+      List<String> values = new ArrayList<>();
+      for(int i = 0; i < 100000; i++)
+         values.add(i % 1000 == 999 ? "bad" : "good");
+      Matcher<String> isGood = new Matcher<String>()
+      {
+         public Result match(String actual) { return new Result(!actual.equals("good"), "was good", "was " + actual); }
+         public Result notMatches(String actual) { return new Result(actual.equals("good"), "wasn't good", "was " + actual); }
+      };
+
+      BatchReport report = Assertions.checkAll(values.parallelStream(), isGood, 2);
+
+      assertEquals(100000, report.getCheckedCount());
+      assertEquals(100, report.getFailureCount());
+      assertEquals(999, report.getFailures().get(0).getIndex());
+      assertEquals(1999, report.getFailures().get(1).getIndex());
+   }
+
+   @Test public void testAssertAllFails()
+   {
+      List<String> values = new ArrayList<>();
+      values.add("one");
+      values.add("two");
+      try
+      {
+         Assertions.assertAll(values, fails());
+      }
+      catch(AssertionError ae)
+      {
+         assertEquals("2 of 2 values failed\n[0] Expected that it:\n\tpassed\nbut it:\n\tfailed\n[1] Expected that it:\n\tpassed\nbut it:\n\tfailed", ae.getMessage());
+         return;
+      }
+      fail("assertion didn't fail when it should have");
+   }
+}
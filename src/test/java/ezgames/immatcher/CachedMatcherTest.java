@@ -0,0 +1,182 @@
+package ezgames.immatcher;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static ezgames.immatcher.Assertions.*;
+import static ezgames.immatcher.CachedMatcher.*;
+import static ezgames.immatcher.matchers.ResultMatchers.*;
+
+import static org.junit.Assert.*;
+
+public class CachedMatcherTest
+{
+   @Test public void testRepeatedMatchesAreCached()
+   {
+      Counting counting = new Counting();
+      CachedMatcher<String> matcher = cached(counting);
+
+      Result first = matcher.match("a");
+      Result second = matcher.match(new String("a"));
+
+      assertSame(first, second);
+      assertEquals(1, counting.runs);
+      assertEquals(1, matcher.getHitCount());
+      assertEquals(1, matcher.getMissCount());
+   }
+
+   @Test public void testMatchAndNotMatchesAreCachedSeparately()
+   {
+      Counting counting = new Counting();
+      CachedMatcher<String> matcher = cached(counting);
+
+      assertThat(matcher.match("a"), passed());
+      assertThat(matcher.notMatches("a"), failed());
+      assertThat(matcher.notMatches("a"), failed());
+      assertEquals(2, counting.runs);
+   }
+
+   @Test public void testIdentityKeysDontMatchEqualObjects()
+   {
+      Counting counting = new Counting();
+      CachedMatcher<String> matcher = cached(counting, 10, true, false);
+
+      matcher.match(new String("a"));
+      matcher.match(new String("a"));
+
+      assertEquals(2, counting.runs);
+   }
+
+   @Test public void testLeastRecentlyUsedIsEvicted()
+   {
+      Counting counting = new Counting();
+      CachedMatcher<String> matcher = cached(counting, 1);
+
+      matcher.match("a");
+      matcher.match("b");
+      matcher.match("a");
+
+      assertEquals(3, counting.runs);
+      assertEquals(1, matcher.size());
+   }
+
+   @Test public void testSizeNeverPassesTheMaximum()
+   {
+      for(int maximumSize : new int[] {1, 2, 3, 17, 31, 100})
+      {
+         CachedMatcher<String> matcher = cached(new Counting(), maximumSize);
+
+         for(int i = 0; i < 10 * maximumSize; i++)
+            matcher.match(Integer.toString(i));
+
+         assertTrue(matcher.size() <= maximumSize);
+      }
+   }
+
+   @Test public void testConcurrentMatchesStayConsistent() throws Exception
+   {
+      Counting counting = new Counting();
+      CachedMatcher<String> matcher = cached(new Synchronized(counting), 50);
+      int threads = 8;
+      int matchesPerThread = 5_000;
+      ExecutorService pool = Executors.newFixedThreadPool(threads);
+      List<Future<?>> futures = new ArrayList<>();
+      try
+      {
+         for(int t = 0; t < threads; t++)
+         {
+            int seed = t;
+            futures.add(pool.submit(() -> {
+               Random random = new Random(seed);
+               for(int i = 0; i < matchesPerThread; i++)
+               {
+                  String key = Integer.toString(random.nextInt(100));
+                  Result result = random.nextBoolean() ? matcher.match(key) : matcher.notMatches(key);
+                  assertEquals("\tpassed " + key, result.failed() ? result.getActual() : result.getExpected());
+               }
+            }));
+         }
+         for(Future<?> future : futures)
+            future.get();
+      }
+      finally
+      {
+         pool.shutdown();
+      }
+
+      assertEquals(threads * matchesPerThread, matcher.getHitCount() + matcher.getMissCount());
+      assertEquals(matcher.getMissCount(), counting.runs);
+      assertTrue(matcher.size() <= 50);
+   }
+
+   @Test public void testWeakKeysRenderTheirResults()
+   {
+      Counting counting = new Counting();
+      CachedMatcher<String> matcher = cached(counting, 10, false, true);
+      String key = new String("a");
+
+      Result result = matcher.match(key);
+
+      assertSame(result, matcher.match(key));
+      assertEquals("\tpassed a", result.getExpected());
+      assertEquals(1, counting.runs);
+   }
+
+   @Test public void testNullIsCached()
+   {
+      Counting counting = new Counting();
+      CachedMatcher<String> matcher = cached(counting, 10, true, true);
+
+      matcher.match(null);
+      matcher.match(null);
+
+      assertEquals(1, counting.runs);
+   }
+
+   /**
+    * Runs a {@code Matcher} under a lock, so a {@code Matcher} that isn't
+    * thread-safe can be shared.
+    */
+   private static class Synchronized implements Matcher<String>
+   {
+      Synchronized(Matcher<String> matcher)
+      {
+         this.matcher = matcher;
+      }
+
+      public synchronized Result match(String actual)
+      {
+         return matcher.match(actual);
+      }
+
+      public synchronized Result notMatches(String actual)
+      {
+         return matcher.notMatches(actual);
+      }
+
+      private final Matcher<String> matcher;
+   }
+
+   private static class Counting implements Matcher<String>
+   {
+      public Result match(String actual)
+      {
+         runs++;
+         return new Result(false, () -> "passed " + actual, () -> "failed " + actual);
+      }
+
+      public Result notMatches(String actual)
+      {
+         runs++;
+         return new Result(true, () -> "failed " + actual, () -> "passed " + actual);
+      }
+
+      private int runs = 0;
+   }
+}
@@ -0,0 +1,60 @@
+package ezgames.immatcher;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import ezgames.immatcher.mocks.MockMatcher;
+
+import static ezgames.immatcher.mocks.MockMatcher.*;
+import static org.junit.Assert.*;
+
+public class InstrumentationTest
+{
+   @Test public void testInstrumentIsIdentityWhenDisabled()
+   {
+      MockMatcher matcher = passes();
+
+      assertFalse(Instrumentation.ENABLED);
+      assertSame(matcher, Instrumentation.instrument(matcher));
+      assertTrue(Instrumentation.snapshot().isEmpty());
+   }
+
+   @Test public void testRegistryCountsPerClass()
+   {
+      Instrumentation.Registry registry = new Instrumentation.Registry();
+      registry.record(String.class, 5, false);
+      registry.record(String.class, 3000, true);
+      registry.record(Integer.class, 1, false);
+
+      List<MatcherStatistics> statistics = registry.snapshot();
+
+      assertEquals(2, statistics.size());
+      MatcherStatistics first = statistics.get(0);
+      assertEquals(String.class, first.getMatcherClass());
+      assertEquals(2, first.getInvocations());
+      assertEquals(1, first.getFailures());
+      assertEquals(3005, first.getTotalNanos());
+      assertEquals(1, first.getLatencyHistogram()[3]);
+      assertEquals(1, first.getLatencyHistogram()[12]);
+   }
+
+   @Test public void testBuckets()
+   {
+      assertEquals(0, MatcherStatistics.bucketOf(0));
+      assertEquals(1, MatcherStatistics.bucketOf(1));
+      assertEquals(2, MatcherStatistics.bucketOf(3));
+      assertEquals(MatcherStatistics.BUCKETS - 1, MatcherStatistics.bucketOf(Long.MAX_VALUE));
+   }
+
+   @Test public void testJson()
+   {
+      Instrumentation.Registry registry = new Instrumentation.Registry();
+      registry.record(String.class, 1, false);
+
+      String json = Instrumentation.toJson(registry.snapshot());
+
+      assertTrue(json.startsWith("{\"matchers\":[{\"class\":\"java.lang.String\",\"invocations\":1,\"passes\":1,\"failures\":0,\"totalNanos\":1,\"histogram\":[0,1,0,"));
+      assertTrue(json.endsWith("]}]}"));
+   }
+}
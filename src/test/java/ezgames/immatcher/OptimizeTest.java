@@ -0,0 +1,158 @@
+package ezgames.immatcher;
+
+import org.junit.Test;
+
+import static ezgames.immatcher.Assertions.*;
+import static ezgames.immatcher.Matchers.*;
+import static ezgames.immatcher.matchers.ResultMatchers.*;
+import static ezgames.immatcher.mocks.MockMatcher.*;
+
+import static org.junit.Assert.*;
+
+@SuppressWarnings("unchecked")
+public class OptimizeTest
+{
+   @Test public void testCheapMatchersRunFirst()
+   {
+      Named expensive = new Named("expensive", Costed.LINEAR, true);
+      Named cheap = new Named("cheap", Costed.CONSTANT, true);
+
+      Result result = optimize(allOf(expensive, cheap)).match("");
+
+      assertThat(result, failed());
+      assertEquals(0, expensive.runs);
+      assertEquals(1, cheap.runs);
+   }
+
+   @Test public void testMessagesKeepDeclarationOrder()
+   {
+      Named expensive = new Named("expensive", Costed.LINEAR, false);
+      Named cheap = new Named("cheap", Costed.CONSTANT, false);
+
+      Result result = optimize(allOf(expensive, cheap)).match("");
+
+      assertThat(result, passed());
+      assertEquals("\tAND(\n\texpensive\n\tcheap)", result.getExpected());
+   }
+
+   @Test public void testNestedCombinatorsAreFlattenedAndDeduped()
+   {
+      Matcher<String> repeated = passes();
+      Matcher<String> matcher = optimize(allOf(repeated, allOf(passes(), repeated), repeated));
+
+      assertEquals("\tAND(\n\tpassed\n\tpassed)", matcher.match("").getExpected());
+   }
+
+   @Test public void testDoubleNotIsFolded()
+   {
+      Matcher<String> original = fails();
+
+      assertSame(original, optimize(not(not(original))));
+   }
+
+   @Test public void testOutcomeIsUnchanged()
+   {
+      Matcher<String> matcher = anyOf(fails(), not(passes()), allOf(passes(), fails()));
+
+      assertEquals(matcher.match("").failed(), optimize(matcher).match("").failed());
+      assertEquals(matcher.notMatches("").failed(), optimize(matcher).notMatches("").failed());
+   }
+
+   @Test public void testGuardsWithoutACostStayFirst()
+   {
+      // the cheaper check would throw on null if it ran before the guard
+      ResultBuilder notNull = ResultBuilder.withMessages("wasn't null", "was null");
+      Matcher<String> guard = new Matcher<String>()
+      {
+         public Result match(String actual)
+         {
+            return actual == null ? notNull.fail() : notNull.pass();
+         }
+
+         public Result notMatches(String actual)
+         {
+            return actual == null ? notNull.pass() : notNull.fail();
+         }
+      };
+      Matcher<String> guarded = new Named("guarded", Costed.CONSTANT, false)
+      {
+         @Override
+         public Result match(String actual)
+         {
+            actual.length();
+            return super.match(actual);
+         }
+      };
+
+      Matcher<String> matcher = optimize(allOf(guard, guarded));
+
+      assertThat(matcher.match(null), failed());
+   }
+
+   @Test public void testCostedRunsAreSortedBetweenUncostedMatchers()
+   {
+      Named expensive = new Named("expensive", Costed.LINEAR, false);
+      Named cheap = new Named("cheap", Costed.CONSTANT, false);
+      Named cheapest = new Named("cheapest", Costed.CONSTANT, true);
+
+      Result result = optimize(allOf(expensive, cheap, fails(), cheapest)).match("");
+
+      assertThat(result, failed());
+      assertEquals(1, cheap.runs);
+      assertEquals(1, expensive.runs);
+      assertEquals(0, cheapest.runs);
+   }
+
+   @Test public void testCostedRunIsSortedBeforeAnUncostedMatcher()
+   {
+      Named expensive = new Named("expensive", Costed.LINEAR, true);
+      Named cheap = new Named("cheap", Costed.CONSTANT, true);
+
+      optimize(allOf(expensive, cheap, passes())).match("");
+
+      assertEquals(0, expensive.runs);
+      assertEquals(1, cheap.runs);
+   }
+
+   @Test public void testCombinatorsWithUncostedMatchersStayPut()
+   {
+      Named cheap = new Named("cheap", Costed.CONSTANT, true);
+
+      Result result = optimize(allOf(allOf(fails(), passes()), cheap)).match("");
+
+      assertThat(result, failed());
+      assertEquals(0, cheap.runs);
+   }
+
+   private static class Named implements Matcher<String>, Costed
+   {
+      Named(String name, long cost, boolean fail)
+      {
+         this.result = ResultBuilder.withMessages(name, "not " + name);
+         this.cost = cost;
+         this.fail = fail;
+      }
+
+      public Result match(String actual)
+      {
+         runs++;
+         return fail ? result.fail() : result.pass();
+      }
+
+      public Result notMatches(String actual)
+      {
+         runs++;
+         return fail ? result.pass() : result.fail();
+      }
+
+      public long getCost()
+      {
+         return cost;
+      }
+
+      private final ResultBuilder result;
+      private final long cost;
+      private final boolean fail;
+      private int runs = 0;
+   }
+}
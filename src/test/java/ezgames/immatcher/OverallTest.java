@@ -2,6 +2,8 @@ package ezgames.immatcher;
 
 import org.junit.Test;
 
+import java.util.Arrays;
+
 import static ezgames.immatcher.Assertions.*;
 import static ezgames.immatcher.Matchers.*;
 import static ezgames.immatcher.matchers.ResultMatchers.*;
@@ -57,7 +59,7 @@ public class OverallTest
 
       Result result = matcher.match("");
 
-      assertThat(result, failedWithMessage("\tAND(\n\tAND(\n\tfailed\n\tpassed)\n\tpassed)"));
+      assertThat(result, failedWithMessage("\tAND(\n\tfailed)"));
    }
 
    @Test public void testAllOfFails2()
@@ -66,7 +68,7 @@ public class OverallTest
 
       Result result = matcher.match("");
 
-      assertThat(result, failedWithMessage("\tAND(\n\tAND(\n\tpassed\n\tfailed)\n\tpassed)"));
+      assertThat(result, failedWithMessage("\tAND(\n\tpassed\n\tfailed)"));
    }
 
    @Test public void testAllOfFails3()
@@ -75,7 +77,54 @@ public class OverallTest
 
       Result result = matcher.match("");
 
-      assertThat(result, failedWithMessage("\tAND(\n\tAND(\n\tfailed\n\tpassed)\n\tfailed)"));
+      assertThat(result, failedWithMessage("\tAND(\n\tfailed)"));
+   }
+
+   @Test public void testAllOfReportingAllFails()
+   {
+      Matcher<String> matcher = allOfReportingAll(fails(), passes(), fails());
+
+      Result result = matcher.match("");
+
+      assertThat(result, failedWithMessage("\tAND(\n\tfailed\n\tpassed\n\tfailed)"));
+   }
+
+   @Test public void testDeepAllOfPasses()
+   {
+      Matcher<String>[] others = (Matcher<String>[])new Matcher<?>[10000];
+      Arrays.fill(others, passes());
+      Matcher<String> matcher = allOf(passes(), passes(), others);
+
+      Result result = matcher.match("");
+
+      assertThat(result, passed());
+   }
+
+   @Test public void testNotAllOf()
+   {
+      Matcher<String> matcher = not(allOf(passes(), fails(), passes()));
+
+      Result result = matcher.match("");
+
+      assertThat(result, passed());
+   }
+
+   @Test public void testParallelAllOfMatchesSequentialMessage()
+   {
+      Matcher<String> matcher = parallelAllOf(passes(), passes(), fails(), passes(), fails());
+
+      Result result = matcher.match("");
+
+      assertThat(result, failedWithMessage("\tAND(\n\tpassed\n\tpassed\n\tfailed)"));
+   }
+
+   @Test public void testParallelAnyOfPasses()
+   {
+      Matcher<String> matcher = parallelAnyOf(fails(), fails(), passes(), fails());
+
+      Result result = matcher.match("");
+
+      assertThat(result, passed());
    }
 
    @Test public void testAnyOfPasses1()
@@ -102,6 +151,6 @@ public class OverallTest
 
       Result result = matcher.match("");
 
-      assertThat(result, failedWithMessage("\tOR(\n\tOR(\n\tfailed\n\tfailed)\n\tfailed)"));
+      assertThat(result, failedWithMessage("\tOR(\n\tfailed\n\tfailed\n\tfailed)"));
    }
 }
@@ -0,0 +1,122 @@
+package ezgames.immatcher;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static ezgames.immatcher.Assertions.*;
+import static ezgames.immatcher.matchers.ResultMatchers.*;
+
+import static org.junit.Assert.*;
+
+public class PreparedMatcherTest
+{
+   @Test public void testPassesReuseThePreparedResult()
+   {
+      IsPositive matcher = new IsPositive();
+
+      Result first = matcher.match(1);
+
+      assertThat(first, passed());
+      assertEquals("\twas positive", first.getExpected());
+      assertSame(first, matcher.match(2));
+   }
+
+   @Test public void testDefaultFailureIsPreparedToo()
+   {
+      IsPositive matcher = new IsPositive();
+
+      Result first = matcher.match(-1);
+
+      assertThat(first, failedWithMessage("\twas not positive"));
+      assertSame(first, matcher.match(-2));
+   }
+
+   @Test public void testNotMatchesSwapsTheMessages()
+   {
+      IsPositive matcher = new IsPositive();
+
+      Result passing = matcher.notMatches(-1);
+      Result failing = matcher.notMatches(1);
+
+      assertThat(passing, passed());
+      assertEquals("\twas not positive", passing.getExpected());
+      assertThat(failing, failedWithMessage("\twas positive"));
+      assertEquals("\twas not positive", failing.getExpected());
+      assertSame(passing, matcher.notMatches(-2));
+      assertSame(failing, matcher.notMatches(2));
+   }
+
+   @Test public void testSuppliedMessagesAreRenderedOnceForEveryMatch()
+   {
+      AtomicInteger renders = new AtomicInteger();
+      IsPositive matcher = new IsPositive(() -> "was positive" + renders.incrementAndGet(), () -> "was not positive");
+
+      matcher.match(1);
+      matcher.match(-1);
+      assertEquals(0, renders.get());
+
+      assertEquals("\twas positive1", matcher.match(1).getExpected());
+      assertEquals("\twas positive1", matcher.match(-1).getExpected());
+      assertThat(matcher.notMatches(1), failedWithMessage("\twas positive1"));
+      assertEquals(1, renders.get());
+   }
+
+   @Test public void testFailedWithKeepsTheExpectedMessage()
+   {
+      AtomicInteger renders = new AtomicInteger();
+      IsPositive matcher = new IsPositive()
+      {
+         @Override
+         protected Result failure(Integer actual)
+         {
+            return failedWith(() -> "was " + actual + renders.incrementAndGet());
+         }
+      };
+
+      Result result = matcher.match(-3);
+
+      assertEquals(0, renders.get());
+      assertEquals("\twas positive", result.getExpected());
+      assertThat(result, failedWithMessage("\twas -31"));
+      assertThat(result, failedWithMessage("\twas -31"));
+      assertEquals(1, renders.get());
+      assertNotSame(result, matcher.match(-3));
+   }
+
+   @Test public void testOverriddenFailureIsOnlyUsedOnFailures()
+   {
+      IsPositive matcher = new IsPositive()
+      {
+         @Override
+         protected Result failure(Integer actual)
+         {
+            throw new AssertionError("failure() was called for " + actual);
+         }
+      };
+
+      assertThat(matcher.match(1), passed());
+      assertThat(matcher.notMatches(-1), passed());
+      assertThat(matcher.notMatches(1), failed());
+   }
+
+   private static class IsPositive extends PreparedMatcher<Integer>
+   {
+      IsPositive()
+      {
+         super("was positive", "was not positive");
+      }
+
+      IsPositive(Supplier<String> expected, Supplier<String> onFailure)
+      {
+         super(expected, onFailure);
+      }
+
+      @Override
+      protected boolean matches(Integer actual)
+      {
+         return actual > 0;
+      }
+   }
+}
@@ -0,0 +1,71 @@
+package ezgames.immatcher;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static ezgames.immatcher.Assertions.*;
+import static ezgames.immatcher.matchers.ResultMatchers.*;
+
+import static org.junit.Assert.*;
+
+public class ResultTest
+{
+   @Test public void testLazyMessagesAreNotRenderedUntilAsked()
+   {
+      AtomicInteger renders = new AtomicInteger();
+
+      Result result = ResultBuilder.withMessages(() -> "passed" + renders.incrementAndGet(), () -> "failed" + renders.incrementAndGet()).pass();
+
+      assertThat(result, passed());
+      assertEquals(0, renders.get());
+   }
+
+   @Test public void testLazyMessagesAreTabbedAndRenderedOnce()
+   {
+      AtomicInteger renders = new AtomicInteger();
+
+      Result result = new Result(true, () -> "passed", () -> "failed" + renders.incrementAndGet());
+
+      assertThat(result, failedWithMessage("\tfailed1"));
+      assertEquals("\tfailed1", result.getOnFailure());
+      assertEquals("\tpassed", result.getExpected());
+      assertEquals(1, renders.get());
+   }
+
+   @Test public void testLazyFailureMessage()
+   {
+      Result result = ResultBuilder.withMessages(() -> "passed", () -> "failed").fail();
+
+      assertEquals("Expected that it:\n\tpassed\nbut it:\n\tfailed", Assertions.buildMessage(result));
+   }
+
+   @Test public void testWrittenMessagesNestInOneBuffer()
+   {
+      Result inner = new Result(true, out -> out.append("passed"), out -> out.append("failed"));
+      Result outer = new Result(true, out -> { out.append("outer("); inner.appendExpected(out); out.append(')'); },
+                                      out -> { out.append("outer("); inner.appendActual(out); out.append(')'); });
+
+      assertEquals("\touter(\tpassed)", outer.getExpected());
+      assertEquals("Expected that it:\n\touter(\tpassed)\nbut it:\n\touter(\tfailed)", Assertions.buildMessage(outer));
+   }
+
+   @Test public void testWrittenMessagesCanRenderOtherResultsWhileWriting()
+   {
+      Result inner = new Result(true, out -> out.append("inner"), out -> out.append("failed"));
+      Result outer = new Result(true, out -> out.append("[").append(inner.getExpected()).append("]"), out -> out.append("failed"));
+
+      assertEquals("\t[\tinner]", outer.getExpected());
+      assertEquals("\tinner", inner.getExpected());
+   }
+
+   @Test public void testFixedMessageBuilderReusesItsResults()
+   {
+      ResultBuilder builder = ResultBuilder.withMessages("passed", "failed");
+
+      assertSame(builder.pass(), builder.pass());
+      assertSame(builder.fail(), builder.buildWithPassStatusOf(false));
+      assertThat(builder.fail(), failed());
+      assertThat(builder.pass(), passed());
+   }
+}
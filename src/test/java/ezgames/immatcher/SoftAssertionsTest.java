@@ -0,0 +1,107 @@
+package ezgames.immatcher;
+
+import org.junit.Test;
+
+import static ezgames.immatcher.mocks.MockMatcher.*;
+import static org.junit.Assert.*;
+
+public class SoftAssertionsTest
+{
+   @Test public void testNoFailuresDoesNotThrow()
+   {
+      try(SoftAssertions softly = new SoftAssertions())
+      {
+         assertTrue(softly.assertThat("value", passes()));
+         assertTrue(softly.assertThat("value", passes()));
+      }
+   }
+
+   @Test public void testFailuresAreAggregated()
+   {
+      SoftAssertions softly = new SoftAssertions(1, false);
+      softly.assertThat("value", fails());
+      softly.assertThat("value", passes());
+      softly.assertThat("value", fails(), "custom message");
+
+      assertEquals(2, softly.getFailureCount());
+      try
+      {
+         softly.close();
+         fail();
+      }
+      catch(AssertionError error)
+      {
+         assertTrue(error.getMessage().startsWith("2 assertions failed\n1) Expected that it:"));
+         assertTrue(error.getMessage().endsWith("\n2) custom message"));
+         assertEquals(0, error.getSuppressed().length);
+      }
+   }
+
+   @Test public void testStackTracesAreAttached()
+   {
+      SoftAssertions softly = new SoftAssertions(4, true);
+      softly.assertThat("value", fails());
+      try
+      {
+         softly.close();
+         fail();
+      }
+      catch(AssertionError error)
+      {
+         assertEquals(1, error.getSuppressed().length);
+         assertTrue(hasFrame(error.getSuppressed()[0], "testStackTracesAreAttached"));
+      }
+   }
+
+   @Test public void testClosingAgainDoesNotRethrow()
+   {
+      SoftAssertions softly = new SoftAssertions();
+      softly.assertThat("value", fails());
+      try
+      {
+         softly.close();
+         fail();
+      }
+      catch(AssertionError expected)
+      {
+      }
+
+      assertEquals(0, softly.getFailureCount());
+      assertTrue(softly.getFailures().isEmpty());
+      softly.close();
+   }
+
+   @Test public void testFailuresAfterClosingAreReportedOnTheirOwn()
+   {
+      SoftAssertions softly = new SoftAssertions(1, true);
+      softly.assertThat("value", fails(), "first");
+      try
+      {
+         softly.close();
+         fail();
+      }
+      catch(AssertionError expected)
+      {
+      }
+      softly.assertThat("value", fails(), "second");
+
+      try
+      {
+         softly.close();
+         fail();
+      }
+      catch(AssertionError error)
+      {
+         assertEquals("1 assertion failed\n1) second", error.getMessage());
+         assertEquals(1, error.getSuppressed().length);
+      }
+   }
+
+   private static boolean hasFrame(Throwable throwable, String methodName)
+   {
+      for(StackTraceElement frame : throwable.getStackTrace())
+         if(frame.getMethodName().equals(methodName))
+            return true;
+      return false;
+   }
+}
@@ -0,0 +1,93 @@
+package ezgames.immatcher;
+
+import org.junit.Test;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ValuesTest
+{
+   @Test public void testRendersContainers()
+   {
+      assertEquals("null", Values.render(null));
+      assertEquals("[1, 2]", Values.render(Arrays.asList(1, 2)));
+      assertEquals("[[a], b]", Values.render(new Object[] {new String[] {"a"}, "b"}));
+   }
+
+   @Test public void testCapsElements()
+   {
+      String rendered = Values.render(new int[Values.MAX_ELEMENTS + 5]);
+
+      assertTrue(rendered.endsWith(", ...(5 more)]"));
+   }
+
+   @Test public void testCapsLength()
+   {
+      char[] text = new char[Values.MAX_LENGTH * 2];
+      Arrays.fill(text, 'x');
+
+      assertEquals(Values.MAX_LENGTH + 3, Values.render(new String(text)).length());
+   }
+
+   @Test public void testCopiesOnlyTheStartOfACharSequence()
+   {
+      CharSequence text = new Endless();
+
+      String rendered = Values.render(Arrays.asList("a", text));
+
+      assertEquals(Values.MAX_LENGTH + 3, rendered.length());
+      assertTrue(rendered.startsWith("[a, xxx"));
+   }
+
+   @Test public void testRendersEntriesByKeyAndValue()
+   {
+      List<Integer> value = new ArrayList<>();
+      for(int i = 0; i < Values.MAX_ELEMENTS + 1; i++)
+         value.add(i);
+
+      String rendered = Values.render(new AbstractMap.SimpleEntry<>("key", value));
+
+      assertTrue(rendered.startsWith("key=[0, 1, "));
+      assertTrue(rendered.endsWith(", ...]"));
+   }
+
+      @Test public void testDetectsCycles()
+   {
+      List<Object> list = new ArrayList<>();
+      list.add(list);
+
+      assertEquals("[(cycle)]", Values.render(list));
+   }
+
+   /**
+    * A very long {@code CharSequence} that can't be turned into a
+    * {@code String}.
+    */
+   private static class Endless implements CharSequence
+   {
+      public int length()
+      {
+         return Integer.MAX_VALUE;
+      }
+
+      public char charAt(int index)
+      {
+         return 'x';
+      }
+
+      public CharSequence subSequence(int start, int end)
+      {
+         throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public String toString()
+      {
+         throw new AssertionError("toString() shouldn't be called");
+      }
+   }
+}
@@ -0,0 +1,47 @@
+package ezgames.immatcher.matchers.arrays;
+
+import org.junit.Test;
+
+import static ezgames.immatcher.Assertions.*;
+import static ezgames.immatcher.matchers.ResultMatchers.*;
+import static ezgames.immatcher.matchers.arrays.ArraysMatchers.*;
+
+public class ArraysMatchersTest
+{
+   @Test public void testHasLengthOfObjectArray()
+   {
+      assertThat(ArraysMatchers.<String>hasLength(2).match(new String[] {"a", "b"}), passed());
+      assertThat(ArraysMatchers.<String>hasLength(2).match(new String[] {"a"}), failedWithMessage("\thad length of 1"));
+   }
+
+   @Test public void testHasLengthOfPrimitiveArray()
+   {
+      assertThat(hasLength(int[].class, 3).match(new int[3]), passed());
+      assertThat(hasLength(byte[].class, 3).match(new byte[4]), failed());
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testHasLengthRejectsNonArrayTypes()
+   {
+      hasLength(String.class, 3);
+   }
+
+   @Test public void testContainsOnlyCountsDuplicates()
+   {
+      assertThat(containsOnly(1, 1, 2).match(new int[] {2, 1, 1}), passed());
+      assertThat(containsOnly(1, 1, 2).match(new int[] {2, 1}), failed());
+      assertThat(containsOnly(1, 2).match(new int[] {2, 1, 1}), failed());
+   }
+
+   @Test public void testContainsOnlyDescribesMissingAndExtraValues()
+   {
+      assertThat(containsOnly(0L, 1L).match(new long[] {1, 3}),
+                 failedWithMessage("\tdidn't contain [0] and contained other elements too: [3]"));
+   }
+
+   @Test public void testContainsAllIgnoresDuplicates()
+   {
+      assertThat(containsAll((byte)1, (byte)1).match(new byte[] {1}), passed());
+      assertThat(containsAll((byte)0).match(new byte[] {1}), failed());
+   }
+}
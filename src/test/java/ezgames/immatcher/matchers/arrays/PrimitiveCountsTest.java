@@ -0,0 +1,113 @@
+package ezgames.immatcher.matchers.arrays;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PrimitiveCountsTest
+{
+   @Test public void testZeroIsCountedLikeAnyOtherValue()
+   {
+      PrimitiveCounts counts = new PrimitiveCounts(new long[] {0, 0, 1});
+
+      int slot = counts.slotOf(0);
+      assertTrue(slot >= 0);
+      assertEquals(0, counts.valueAt(slot));
+      assertEquals(2, counts.copyCounts()[slot]);
+      assertEquals(2, counts.distinct());
+   }
+
+   @Test public void testZeroIsMissingWhenNotCounted()
+   {
+      PrimitiveCounts counts = new PrimitiveCounts(new long[] {1, 2});
+
+      assertEquals(-1, counts.slotOf(0));
+   }
+
+   @Test public void testNoValues()
+   {
+      PrimitiveCounts counts = new PrimitiveCounts(new long[0]);
+
+      assertEquals(0, counts.distinct());
+      assertEquals(-1, counts.slotOf(0));
+      assertTrue(PrimitiveCounts.allZero(counts.copyCounts()));
+   }
+
+   @Test public void testManyDuplicates()
+   {
+      long[] values = new long[1000];
+      Arrays.fill(values, 7);
+      values[500] = -7;
+      PrimitiveCounts counts = new PrimitiveCounts(values);
+
+      assertEquals(2, counts.distinct());
+      assertEquals(999, counts.copyCounts()[counts.slotOf(7)]);
+      assertEquals(1, counts.copyCounts()[counts.slotOf(-7)]);
+      assertEquals(Arrays.asList(7L, -7L), counts.remainingIn(counts.copyCounts()));
+   }
+
+   @Test public void testExtremeValues()
+   {
+      PrimitiveCounts counts = new PrimitiveCounts(new long[] {Long.MIN_VALUE, Long.MAX_VALUE, -1});
+
+      assertEquals(Long.MIN_VALUE, counts.valueAt(counts.slotOf(Long.MIN_VALUE)));
+      assertEquals(Long.MAX_VALUE, counts.valueAt(counts.slotOf(Long.MAX_VALUE)));
+      assertEquals(-1, counts.valueAt(counts.slotOf(-1)));
+      assertEquals(-1, counts.slotOf(Long.MAX_VALUE - 1));
+   }
+
+   @Test public void testAgreesWithAHashMapDespiteCollisions()
+   {
+      // a small range of values in a table of at most twice as many slots
+      // makes for plenty of collisions and probe chains that wrap around
+      Random random = new Random(42);
+      for(int run = 0; run < 500; run++)
+      {
+         long[] values = new long[random.nextInt(20)];
+         Map<Long, Integer> expected = new HashMap<>();
+         for(int i = 0; i < values.length; i++)
+         {
+            values[i] = random.nextInt(16) - 8;
+            expected.merge(values[i], 1, Integer::sum);
+         }
+         PrimitiveCounts counts = new PrimitiveCounts(values);
+         int[] copy = counts.copyCounts();
+
+         assertEquals(expected.size(), counts.distinct());
+         for(long value = -10; value < 10; value++)
+         {
+            int slot = counts.slotOf(value);
+            if(expected.containsKey(value))
+               assertEquals((int)expected.get(value), copy[slot]);
+            else
+               assertEquals(-1, slot);
+         }
+      }
+   }
+
+   @Test public void testTickOffCountsExtraElements()
+   {
+      PrimitiveCounts counts = new PrimitiveCounts(new long[] {1, 1, 2});
+      int[] remaining = counts.copyCounts();
+
+      int extra = counts.tickOff(new int[] {1, 3, 2, 2}, remaining);
+
+      assertEquals(1, extra);
+      assertEquals(1, remaining[counts.slotOf(1)]);
+      assertEquals(-1, remaining[counts.slotOf(2)]);
+   }
+
+   @Test public void testFindInZeroesFoundValues()
+   {
+      PrimitiveCounts counts = new PrimitiveCounts(new long[] {1, 1, 2, 3});
+
+      int[] remaining = counts.findIn(new byte[] {3, 1});
+
+      assertEquals(Arrays.asList(2L), counts.remainingIn(remaining));
+   }
+}
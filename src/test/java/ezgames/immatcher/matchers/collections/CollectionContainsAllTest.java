@@ -0,0 +1,112 @@
+package ezgames.immatcher.matchers.collections;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+import ezgames.immatcher.Matcher;
+
+import static ezgames.immatcher.Assertions.*;
+import static ezgames.immatcher.matchers.ResultMatchers.*;
+import static ezgames.immatcher.matchers.collections.CollectionsMatchers.*;
+
+import static org.junit.Assert.*;
+
+public class CollectionContainsAllTest
+{
+   @Test public void testSmallCollectionsAreProbed()
+   {
+      assertThat(containsAll(list(1, 2)).match(list(3, 2, 1)), passed());
+      assertThat(containsAll(list(1, 4)).match(list(3, 2, 1)), failedWithMessage("\tdidn't contain [4]"));
+   }
+
+   @Test public void testLargeCollectionsAreScannedAgainstTheIndex()
+   {
+      List<Integer> actual = range(0, 10_000);
+      List<Integer> contained = range(5_000, 5_100);
+
+      assertTrue((long)actual.size() * contained.size() > ElementCounts.PROBE_LIMIT);
+      assertThat(containsAll(contained).match(actual), passed());
+
+      contained.add(-1);
+      contained.add(10_000);
+      assertThat(containsAll(contained).match(actual), failedWithMessage("\tdidn't contain [-1, 10000]"));
+   }
+
+   @Test public void testSetsAreProbedWhateverTheirSize()
+   {
+      Collection<Integer> actual = new HashSet<>(range(0, 10_000));
+
+      assertThat(containsAll(range(0, 500)).match(actual), passed());
+      assertThat(containsAll(list(-1)).match(actual), failed());
+   }
+
+   @Test public void testDuplicatesInTheGivenElementsDontMatter()
+   {
+      assertThat(containsAll(list(1, 1, 1)).match(list(1)), passed());
+   }
+
+   @Test public void testNullElements()
+   {
+      assertThat(containsAll(list(1, null)).match(list(null, 1)), passed());
+      assertThat(containsAll(list((Integer)null)).match(range(0, 2_000)), failedWithMessage("\tdidn't contain [null]"));
+   }
+
+   @Test public void testIndexIsReusedAcrossMatches()
+   {
+      Matcher<Collection<?>> matcher = containsAll(range(0, 100));
+
+      assertThat(matcher.match(range(0, 2_000)), passed());
+      assertThat(matcher.match(range(1, 2_000)), failed());
+      assertThat(matcher.match(range(0, 100)), passed());
+   }
+
+   @Test public void testMissingElementsAreCappedInTheMessage()
+   {
+      String message = containsAll(range(0, 100)).match(range(1_000, 3_000)).getActual();
+
+      assertTrue(message, message.endsWith(", ...and " + (100 - Diff.MAX_ENTRIES) + " more]"));
+   }
+
+   @Test public void testDoesNotContainAll()
+   {
+      assertThat(doesNotContainAll(list(1, 4)).match(list(1, 2)), passed());
+      assertThat(doesNotContainAll(list(1, 2)).match(list(1, 2)), failed());
+   }
+
+   @Test public void testMissingElementsAreOnlyRenderedWhenTheMessageIsRead()
+   {
+      Unrenderable missing = new Unrenderable();
+      Matcher<Collection<?>> matcher = doesNotContainAll(Arrays.asList(1, missing));
+
+      assertThat(matcher.match(range(0, 2_000)), passed());
+      assertThat(matcher.match(list(1, 2)), passed());
+      assertThat(containsAll(Arrays.asList(1, missing)).match(range(0, 2_000)), failed());
+   }
+
+   private static List<Integer> range(int from, int to)
+   {
+      List<Integer> list = new ArrayList<>();
+      for(int i = from; i < to; i++)
+         list.add(i);
+      return list;
+   }
+
+   private static List<Integer> list(Integer... elements)
+   {
+      return Arrays.asList(elements);
+   }
+
+   private static class Unrenderable
+   {
+      @Override
+      public String toString()
+      {
+         throw new AssertionError("rendered an element of a passing match");
+      }
+   }
+}
@@ -0,0 +1,71 @@
+package ezgames.immatcher.matchers.collections;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import ezgames.immatcher.Matcher;
+
+import static ezgames.immatcher.Assertions.*;
+import static ezgames.immatcher.matchers.ResultMatchers.*;
+import static ezgames.immatcher.matchers.collections.CollectionsMatchers.*;
+
+public class CollectionContainsOnlyTest
+{
+   @Test public void testOrderDoesntMatter()
+   {
+      assertThat(containsOnly(list(1, 2, 3)).match(list(3, 1, 2)), passed());
+   }
+
+   @Test public void testDuplicatesMustMatch()
+   {
+      assertThat(containsOnly(list(1, 1, 2)).match(list(1, 2, 1)), passed());
+      assertThat(containsOnly(list(1, 1, 2)).match(list(1, 2, 2)), failed());
+      assertThat(containsOnly(list(1, 2)).match(list(1, 2, 2)), failed());
+   }
+
+   @Test public void testMissingElementsAreCounted()
+   {
+      assertThat(containsOnly(list(1, 1, 2)).match(list(2)), failedWithMessage("\tdidn't contain [1 (x2)]"));
+   }
+
+   @Test public void testSurplusOfExpectedElementsIsCounted()
+   {
+      assertThat(containsOnly(list(1, 2)).match(list(1, 2, 2, 2)), failedWithMessage("\tcontained other elements too: [2 (x2)]"));
+   }
+
+   @Test public void testMissingAndUnexpectedElements()
+   {
+      assertThat(containsOnly(list(1, 3)).match(list(1, 4, 5, 5)),
+                 failedWithMessage("\tdidn't contain [3] and contained other elements too: [4, 5 (x2)]"));
+   }
+
+   @Test public void testEmptyCollections()
+   {
+      assertThat(containsOnly(Collections.emptyList()).match(Collections.emptyList()), passed());
+      assertThat(containsOnly(Collections.emptyList()).match(list(1)), failed());
+   }
+
+   @Test public void testNullElements()
+   {
+      assertThat(containsOnly(list(null, 1, null)).match(list(1, null, null)), passed());
+      assertThat(containsOnly(list(null, 1)).match(list(1, 1)), failed());
+   }
+
+   @Test public void testMatcherCanBeReused()
+   {
+      Matcher<Collection<?>> matcher = containsOnly(list(1, 1, 2));
+
+      assertThat(matcher.match(list(1)), failed());
+      assertThat(matcher.match(list(2, 1, 1)), passed());
+      assertThat(matcher.match(list(1, 2, 1)), passed());
+   }
+
+   private static List<Integer> list(Integer... elements)
+   {
+      return Arrays.asList(elements);
+   }
+}
@@ -0,0 +1,54 @@
+package ezgames.immatcher.matchers.collections;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import ezgames.immatcher.Result;
+
+import static ezgames.immatcher.Assertions.*;
+import static ezgames.immatcher.matchers.ResultMatchers.*;
+import static ezgames.immatcher.matchers.collections.CollectionsMatchers.*;
+
+import static org.junit.Assert.*;
+
+public class CollectionsMatchersTest
+{
+   @Test public void testIsEmpty()
+   {
+      assertThat(isEmpty.match(Collections.emptyList()), passed());
+      assertThat(isEmpty.match(Arrays.asList(1, 2)), failedWithMessage("\thad 2 elements"));
+      assertSame(isEmpty.match(Collections.emptyList()), isEmpty.match(Collections.emptySet()));
+   }
+
+   @Test public void testIsNotEmpty()
+   {
+      assertThat(isNotEmpty.match(Arrays.asList(1)), passed());
+
+      Result result = isNotEmpty.match(Collections.emptyList());
+
+      assertEquals("\twas not empty", result.getExpected());
+      assertThat(result, failedWithMessage("\twas empty"));
+   }
+
+   @Test public void testContains()
+   {
+      assertThat(contains(2).match(Arrays.asList(1, 2)), passed());
+
+      Result result = contains(3).match(Arrays.asList(1, 2));
+
+      assertEquals("\tcontained 3", result.getExpected());
+      assertThat(result, failedWithMessage("\tdidn't contain 3"));
+   }
+
+   @Test public void testDoesNotContain()
+   {
+      assertThat(doesNotContain(3).match(Arrays.asList(1, 2)), passed());
+
+      Result result = doesNotContain(2).match(Arrays.asList(1, 2));
+
+      assertEquals("\tdidn't contain 2", result.getExpected());
+      assertThat(result, failedWithMessage("\tcontained 2"));
+   }
+}
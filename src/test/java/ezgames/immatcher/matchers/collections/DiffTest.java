@@ -0,0 +1,167 @@
+package ezgames.immatcher.matchers.collections;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class DiffTest
+{
+   @Test public void testEmptyAgainstNonEmpty()
+   {
+      assertEquals("differed by:\n+[0] 1\n+[1] 2", Diff.editScript(list(), list(1, 2)));
+      assertEquals("differed by:\n-[0] 1\n-[1] 2", Diff.editScript(list(1, 2), list()));
+   }
+
+   @Test public void testAllDifferent()
+   {
+      assertEquals("differed by:\n-[0] 1\n-[1] 2\n+[0] 3\n+[1] 4", Diff.editScript(list(1, 2), list(3, 4)));
+   }
+
+   @Test public void testChangeAfterACommonPrefix()
+   {
+      assertEquals("differed by:\n-[2] 3\n+[2] 4", Diff.editScript(list(1, 2, 3), list(1, 2, 4)));
+   }
+
+   @Test public void testChangeBeforeACommonSuffix()
+   {
+      assertEquals("differed by:\n-[0] 1\n+[0] 4", Diff.editScript(list(1, 2, 3), list(4, 2, 3)));
+   }
+
+   @Test public void testDuplicates()
+   {
+      assertEquals("differed by:\n+[3] 1", Diff.editScript(list(1, 1, 1), list(1, 1, 1, 1)));
+      assertScriptIsShortest(list(1, 2, 1, 2, 1), list(2, 1, 2, 1, 2));
+   }
+
+   @Test public void testOnlyTheFirstEntriesAreListed()
+   {
+      List<Integer> expected = new ArrayList<>();
+      for(int i = 0; i < Diff.MAX_ENTRIES + 5; i++)
+         expected.add(i);
+
+      String script = Diff.editScript(expected, list());
+
+      assertEquals(Diff.MAX_ENTRIES + 2, script.split("\n").length);
+      assertTrue(script.endsWith("\n...(only the first " + Diff.MAX_ENTRIES + " differences are shown)"));
+   }
+
+   @Test public void testAgreesWithTheLongestCommonSubsequence()
+   {
+      Random random = new Random(42);
+      for(int run = 0; run < 2_000; run++)
+      {
+         List<Integer> expected = randomList(random);
+         List<Integer> actual = randomList(random);
+         assertScriptIsShortest(expected, actual);
+      }
+   }
+
+   @Test public void testScriptsUpToTheMaximumDistanceAreListed()
+   {
+      String script = Diff.editScript(longList(), replacingEveryOther(longList(), Diff.MAX_DISTANCE / 2));
+
+      assertTrue(script, script.startsWith("differed by:\n-[1] 1\n+[1] -1"));
+   }
+
+   @Test public void testScriptsPastTheMaximumDistanceGiveUp()
+   {
+      String script = Diff.editScript(longList(), replacingEveryOther(longList(), Diff.MAX_DISTANCE / 2 + 1));
+
+      assertEquals("differed in more than " + Diff.MAX_DISTANCE + " places, starting at index 1", script);
+   }
+
+   /**
+    * Checks that the script's edits turn {@code expected} into
+    * {@code actual}, and that there are no more of them than the longest
+    * common subsequence leaves.
+    */
+   private static void assertScriptIsShortest(List<Integer> expected, List<Integer> actual)
+   {
+      String script = Diff.editScript(expected, actual);
+      String description = expected + " -> " + actual + ": " + script;
+      assertTrue(description, script.startsWith("differed by:"));
+
+      List<Integer> kept = new ArrayList<>(expected);
+      List<Integer> inserted = new ArrayList<>(actual);
+      int edits = 0;
+      int lastRemoved = -1;
+      int lastInserted = -1;
+      for(String line : script.substring("differed by:".length()).split("\n"))
+      {
+         if(line.isEmpty())
+            continue;
+         int index = Integer.parseInt(line.substring(2, line.indexOf(']')));
+         int value = Integer.parseInt(line.substring(line.indexOf(' ') + 1));
+         if(line.charAt(0) == '-')
+         {
+            assertTrue(description, index > lastRemoved);
+            assertEquals(description, (int)expected.get(index), value);
+            kept.set(index, null);
+            lastRemoved = index;
+         }
+         else
+         {
+            assertTrue(description, index > lastInserted);
+            assertEquals(description, (int)actual.get(index), value);
+            inserted.set(index, null);
+            lastInserted = index;
+         }
+         edits++;
+      }
+      kept.removeAll(Collections.singleton(null));
+      inserted.removeAll(Collections.singleton(null));
+
+      assertEquals(description, kept, inserted);
+      assertEquals(description, expected.size() + actual.size() - 2 * lcsLength(expected, actual), edits);
+   }
+
+   private static int lcsLength(List<Integer> a, List<Integer> b)
+   {
+      int[][] lengths = new int[a.size() + 1][b.size() + 1];
+      for(int i = 1; i <= a.size(); i++)
+         for(int j = 1; j <= b.size(); j++)
+            lengths[i][j] = a.get(i - 1).equals(b.get(j - 1))
+                  ? lengths[i - 1][j - 1] + 1
+                  : Math.max(lengths[i - 1][j], lengths[i][j - 1]);
+      return lengths[a.size()][b.size()];
+   }
+
+   /** Returns a short list of small values, so there are plenty of duplicates. */
+   private static List<Integer> randomList(Random random)
+   {
+      List<Integer> list = new ArrayList<>();
+      for(int i = random.nextInt(9); i > 0; i--)
+         list.add(random.nextInt(4));
+      return list;
+   }
+
+   private static List<Integer> longList()
+   {
+      List<Integer> list = new ArrayList<>();
+      for(int i = 0; i < 3 * Diff.MAX_DISTANCE; i++)
+         list.add(i);
+      return list;
+   }
+
+   /**
+    * Replaces the elements at odd indexes, starting at 1, with values that
+    * aren't anywhere else; each one is two edits.
+    */
+   private static List<Integer> replacingEveryOther(List<Integer> list, int count)
+   {
+      for(int i = 0; i < count; i++)
+         list.set(2 * i + 1, -(2 * i + 1));
+      return list;
+   }
+
+   private static List<Integer> list(Integer... elements)
+   {
+      return Arrays.asList(elements);
+   }
+}
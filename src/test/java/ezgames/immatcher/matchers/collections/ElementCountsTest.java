@@ -0,0 +1,115 @@
+package ezgames.immatcher.matchers.collections;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ElementCountsTest
+{
+   @Test public void testDuplicatesAreCounted()
+   {
+      ElementCounts counts = new ElementCounts(Arrays.asList("a", "b", "a", "a"));
+
+      assertEquals(2, counts.distinct());
+      assertEquals(3, counts.countAt(counts.slotOf("a")));
+      assertEquals(1, counts.countAt(counts.slotOf("b")));
+      assertEquals(-1, counts.slotOf("c"));
+   }
+
+   @Test public void testNullIsCountedLikeAnyOtherElement()
+   {
+      ElementCounts counts = new ElementCounts(Arrays.asList(null, "a", null));
+
+      assertEquals(2, counts.countAt(counts.slotOf(null)));
+      assertNull(counts.elementAt(counts.slotOf(null)));
+   }
+
+   @Test public void testElementsKeepTheOrderTheyWereAddedIn()
+   {
+      ElementCounts counts = new ElementCounts(Arrays.asList("c", "a", "c", "b"));
+
+      assertEquals("c", counts.elementAt(counts.slotAt(0)));
+      assertEquals("a", counts.elementAt(counts.slotAt(1)));
+      assertEquals("b", counts.elementAt(counts.slotAt(2)));
+   }
+
+   @Test public void testGrowingKeepsEveryCount()
+   {
+      ElementCounts counts = new ElementCounts(1);
+      for(int round = 0; round < 3; round++)
+         for(int i = 0; i < 1_000; i++)
+            counts.add(i, 1);
+
+      assertEquals(1_000, counts.distinct());
+      for(int i = 0; i < 1_000; i++)
+      {
+         assertEquals(3, counts.countAt(counts.slotOf(i)));
+         assertEquals(i, counts.elementAt(counts.slotAt(i)));
+      }
+   }
+
+   @Test public void testCollidingHashCodes()
+   {
+      ElementCounts counts = new ElementCounts(4);
+      for(int i = 0; i < 50; i++)
+         counts.add(new SameHash(i), i + 1);
+
+      for(int i = 0; i < 50; i++)
+         assertEquals(i + 1, counts.countAt(counts.slotOf(new SameHash(i))));
+      assertEquals(-1, counts.slotOf(new SameHash(50)));
+   }
+
+   @Test public void testAgreesWithAHashMap()
+   {
+      Random random = new Random(42);
+      ElementCounts counts = new ElementCounts(0);
+      Map<Integer, Integer> expected = new HashMap<>();
+      for(int i = 0; i < 10_000; i++)
+      {
+         int element = random.nextInt(300);
+         counts.add(element, 1);
+         expected.merge(element, 1, Integer::sum);
+      }
+
+      assertEquals(expected.size(), counts.distinct());
+      for(Map.Entry<Integer, Integer> entry : expected.entrySet())
+         assertEquals((int)entry.getValue(), counts.countAt(counts.slotOf(entry.getKey())));
+   }
+
+   @Test public void testCopiesAreIndependent()
+   {
+      ElementCounts counts = new ElementCounts(Arrays.asList("a"));
+
+      counts.copyCounts()[counts.slotOf("a")]--;
+
+      assertEquals(1, counts.countAt(counts.slotOf("a")));
+   }
+
+   /** An element whose hash code is always the same, so every one collides. */
+   private static final class SameHash
+   {
+      SameHash(int id)
+      {
+         this.id = id;
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return 7;
+      }
+
+      @Override
+      public boolean equals(Object other)
+      {
+         return other instanceof SameHash && ((SameHash)other).id == id;
+      }
+
+      private final int id;
+   }
+}
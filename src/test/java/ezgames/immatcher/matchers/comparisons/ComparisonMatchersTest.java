@@ -0,0 +1,41 @@
+package ezgames.immatcher.matchers.comparisons;
+
+import org.junit.Test;
+
+import static ezgames.immatcher.Assertions.*;
+import static ezgames.immatcher.matchers.ResultMatchers.*;
+import static ezgames.immatcher.matchers.comparisons.ComparisonMatchers.*;
+
+import static org.junit.Assert.*;
+
+public class ComparisonMatchersTest
+{
+   @Test public void testIsWithinTakesExpectedThenTolerance()
+   {
+      assertThat(isWithin(10, 2).match(12), passed());
+      assertThat(isWithin(10, 2).match(8), passed());
+      assertThat(isWithin(10, 2).match(13), failed());
+      assertThat(isWithin(10L, 2L).match(7L), failed());
+      assertThat(isWithin(10.0, 0.5).match(10.5), passed());
+      assertThat(isWithin(10.0, 0.5).match(9.4), failed());
+   }
+
+   @Test public void testIsWithinSaturatesAtTheLimits()
+   {
+      assertThat(isWithin(Integer.MAX_VALUE, 5).match(Integer.MAX_VALUE), passed());
+      assertThat(isWithin(Integer.MIN_VALUE, 5).match(Integer.MIN_VALUE), passed());
+      assertThat(isWithin(Long.MAX_VALUE, 5L).match(Long.MAX_VALUE), passed());
+      assertThat(isWithin(Long.MIN_VALUE, 5L).match(Long.MIN_VALUE), passed());
+   }
+
+   @Test public void testIsWithinDescribesItself()
+   {
+      assertEquals("\twas within 2 of 10", isWithin(10, 2).match(10).getExpected());
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testIsWithinRejectsNegativeTolerance()
+   {
+      isWithin(10, -1);
+   }
+}
@@ -0,0 +1,115 @@
+package ezgames.immatcher.matchers.comparisons;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import ezgames.immatcher.Matcher;
+
+import static ezgames.immatcher.Assertions.*;
+import static ezgames.immatcher.matchers.ResultMatchers.*;
+import static ezgames.immatcher.matchers.comparisons.ComparisonMatchers.*;
+import static ezgames.immatcher.matchers.comparisons.Range.*;
+
+import static org.junit.Assert.*;
+
+public class IsInAnyRangeTest
+{
+   @Test public void testValuesInGapsFail()
+   {
+      Matcher<Integer> matcher = isInAnyRange(closed(10, 20), closed(0, 5), closed(30, 40));
+
+      assertThat(matcher.match(-1), failed());
+      assertThat(matcher.match(0), passed());
+      assertThat(matcher.match(5), passed());
+      assertThat(matcher.match(6), failed());
+      assertThat(matcher.match(15), passed());
+      assertThat(matcher.match(25), failed());
+      assertThat(matcher.match(40), passed());
+      assertThat(matcher.match(41), failed());
+   }
+
+   @Test public void testTouchingOpenBoundsLeaveAGap()
+   {
+      Matcher<Integer> matcher = isInAnyRange(closedOpen(0, 5), openClosed(5, 10));
+
+      assertThat(matcher.match(4), passed());
+      assertThat(matcher.match(5), failed());
+      assertThat(matcher.match(6), passed());
+   }
+
+   @Test public void testTouchingClosedBoundJoinsTheRanges()
+   {
+      Matcher<Integer> matcher = isInAnyRange(closedOpen(0, 5), closed(5, 10));
+
+      assertThat(matcher.match(5), passed());
+      assertThat(matcher.match(10), passed());
+      assertThat(matcher.match(11), failed());
+   }
+
+   @Test public void testOverlappingAndNestedRanges()
+   {
+      Matcher<Integer> matcher = isInAnyRange(closed(0, 10), open(5, 15), closed(2, 3), open(20, 30));
+
+      assertThat(matcher.match(0), passed());
+      assertThat(matcher.match(14), passed());
+      assertThat(matcher.match(15), failed());
+      assertThat(matcher.match(20), failed());
+      assertThat(matcher.match(21), passed());
+   }
+
+   @Test public void testEmptyRangesAreIgnored()
+   {
+      Matcher<Integer> matcher = isInAnyRange(open(3, 3), closed(5, 1));
+
+      assertThat(matcher.match(3), failed());
+      assertThat(matcher.match(2), failed());
+   }
+
+   @Test public void testMessagesListTheRangesAsGiven()
+   {
+      Matcher<Integer> matcher = isInAnyRange(closed(10, 20), closedOpen(0, 5), open(30, 40));
+
+      assertThat(matcher.match(25), failedWithMessage("\twas not in [10, 20], [0, 5) or (30, 40)"));
+   }
+
+   @Test public void testAgreesWithCheckingEveryRange()
+   {
+      Random random = new Random(42);
+      for(int run = 0; run < 200; run++)
+      {
+         @SuppressWarnings("unchecked")
+         Range<Integer>[] ranges = (Range<Integer>[])new Range<?>[1 + random.nextInt(6)];
+         for(int i = 0; i < ranges.length; i++)
+            ranges[i] = randomRange(random);
+         Matcher<Integer> matcher = isInAnyRange(ranges);
+
+         for(int value = -1; value <= 21; value++)
+         {
+            boolean expected = false;
+            for(Range<Integer> range : ranges)
+               expected |= range.contains(value);
+            assertEquals(expected, !matcher.match(value).failed());
+         }
+      }
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testNoRangesAreRejected()
+   {
+      ComparisonMatchers.<Integer>isInAnyRange();
+   }
+
+   private static Range<Integer> randomRange(Random random)
+   {
+      int lowest = random.nextInt(20);
+      int highest = lowest + random.nextInt(5);
+      switch(random.nextInt(4))
+      {
+         case 0: return closed(lowest, highest);
+         case 1: return open(lowest, highest);
+         case 2: return closedOpen(lowest, highest);
+         default: return openClosed(lowest, highest);
+      }
+   }
+}
@@ -0,0 +1,97 @@
+package ezgames.immatcher.matchers.comparisons;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import ezgames.immatcher.Result;
+
+import static ezgames.immatcher.Assertions.*;
+import static ezgames.immatcher.matchers.ResultMatchers.*;
+import static ezgames.immatcher.matchers.comparisons.ComparisonMatchers.*;
+
+public class IsSortedTest
+{
+   @Test public void testIterables()
+   {
+      assertThat(ComparisonMatchers.<Integer>isSorted().match(Arrays.asList(1, 2, 2, 3)), passed());
+      assertThat(ComparisonMatchers.<Integer>isStrictlySorted().match(Arrays.asList(1, 2, 2, 3)), failed());
+      assertThat(ComparisonMatchers.<Integer>isStrictlySorted().match(new LinkedList<>(Arrays.asList(1, 2, 3))), passed());
+      assertThat(ComparisonMatchers.<Integer>isSorted().match(Arrays.<Integer>asList()), passed());
+   }
+
+   @Test public void testPrimitiveArrays()
+   {
+      assertThat(isSorted(int[].class).match(new int[] {1, 1, 2}), passed());
+      assertThat(isStrictlySorted(long[].class).match(new long[] {1, 1, 2}), failed());
+      assertThat(isSorted(double[].class).match(new double[] {-0.0, 0.0, Double.NaN}), passed());
+      assertThat(isSorted(double[].class).match(new double[] {0.0, -0.0}), failed());
+   }
+
+   @Test public void testObjectArrays()
+   {
+      assertThat(isSorted(String[].class).match(new String[] {"a", "b"}), passed());
+      assertThat(isSorted(String[].class).match(new String[] {"b", "c", "a"}),
+                 failedWithMessage("\twas out of order at index 2: a came after c"));
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testNonArrayTypesAreRejected()
+   {
+      isSorted(List.class);
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testArraysThatCantBeOrderedAreRejected()
+   {
+      isSorted(Object[].class);
+   }
+
+   @Test public void testMessageNamesThePairForAnIndexedList()
+   {
+      Result result = ComparisonMatchers.<Integer>isSorted().match(Arrays.asList(1, 3, 2));
+
+      assertThat(result, failedWithMessage("\twas out of order at index 2: 2 came after 3"));
+   }
+
+   @Test public void testMessageDoesntWalkTheIterableAgain()
+   {
+      Iterable<Integer> once = new Once<>(Arrays.asList(1, 2, 5, 4, 6));
+
+      Result result = ComparisonMatchers.<Integer>isSorted().match(once);
+
+      assertThat(result, failedWithMessage("\twas out of order at index 3: 4 came after 5"));
+   }
+
+   @Test public void testComparatorOrder()
+   {
+      assertThat(ComparisonMatchers.<Integer>isSorted(Comparator.reverseOrder()).match(Arrays.asList(3, 2, 2)), passed());
+      assertThat(ComparisonMatchers.<String, Integer>isSortedBy(String::length).match(Arrays.asList("aa", "b")), failed());
+   }
+
+   /**
+    * An {@code Iterable} that can only be iterated once.
+    */
+   private static class Once<T> implements Iterable<T>
+   {
+      Once(Iterable<T> elements)
+      {
+         this.elements = elements;
+      }
+
+      public Iterator<T> iterator()
+      {
+         if(used)
+            throw new IllegalStateException("already iterated");
+         used = true;
+         return elements.iterator();
+      }
+
+      private final Iterable<T> elements;
+      private boolean used = false;
+   }
+}
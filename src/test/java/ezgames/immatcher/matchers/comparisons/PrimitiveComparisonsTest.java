@@ -0,0 +1,95 @@
+package ezgames.immatcher.matchers.comparisons;
+
+import org.junit.Test;
+
+import ezgames.immatcher.Assertions;
+import ezgames.immatcher.IntMatcher;
+
+import static ezgames.immatcher.Assertions.*;
+import static ezgames.immatcher.matchers.ResultMatchers.*;
+import static ezgames.immatcher.matchers.comparisons.ComparisonMatchers.*;
+
+import static org.junit.Assert.*;
+
+public class PrimitiveComparisonsTest
+{
+   @Test public void testIntComparisons()
+   {
+      assertThat(isLessThan(5).matchInt(4), passed());
+      assertThat(isLessThan(5).matchInt(5), failed());
+      assertThat(isLessThanOrEqualTo(5).matchInt(5), passed());
+      assertThat(isGreaterThan(5).matchInt(6), passed());
+      assertThat(isGreaterThanOrEqualTo(5).matchInt(4), failed());
+      assertThat(isEquivalentTo(5).matchInt(5), passed());
+      assertThat(isNotEquivalentTo(5).matchInt(5), failed());
+   }
+
+   @Test public void testIntExtremesDontOverflow()
+   {
+      assertThat(isLessThan(Integer.MAX_VALUE).matchInt(Integer.MIN_VALUE), passed());
+      assertThat(isGreaterThan(Integer.MIN_VALUE).matchInt(Integer.MAX_VALUE), passed());
+   }
+
+   @Test public void testLongComparisons()
+   {
+      assertThat(isLessThan(5L).matchLong(Long.MIN_VALUE), passed());
+      assertThat(isGreaterThan(5L).matchLong(5L), failed());
+      assertThat(isBetween(1L, 3L).matchLong(3L), passed());
+      assertThat(isBetween(1L, 3L).matchLong(4L), failed());
+   }
+
+   @Test public void testDoubleComparisonsOrderZerosAndNaN()
+   {
+      assertThat(isLessThan(0.0).matchDouble(-0.0), passed());
+      assertThat(isEquivalentTo(0.0).matchDouble(-0.0), failed());
+      assertThat(isEquivalentTo(Double.NaN).matchDouble(Double.NaN), passed());
+      assertThat(isBetween(0.0, 1.0).matchDouble(Double.NaN), failed());
+      assertThat(isBetween(0.0, 1.0).matchDouble(1.0), passed());
+   }
+
+   @Test public void testIsCloseTo()
+   {
+      assertThat(isCloseTo(1.0, 0.1).matchDouble(1.05), passed());
+      assertThat(isCloseTo(1.0, 0.1).matchDouble(1.2), failed());
+      assertThat(isCloseTo(1.0, 0.1).matchDouble(Double.NaN), failed());
+   }
+
+   @Test public void testNotMatchesIsTheOpposite()
+   {
+      assertThat(isLessThan(5).notMatchesInt(4), failed());
+      assertThat(isLessThan(5).notMatchesInt(5), passed());
+      assertEquals("\twas not less than 5", isLessThan(5).notMatchesInt(5).getExpected());
+   }
+
+   @Test public void testResultsArePrebuilt()
+   {
+      IntMatcher matcher = isLessThan(5);
+
+      assertSame(matcher.matchInt(1), matcher.matchInt(2));
+      assertSame(matcher.matchInt(6), matcher.matchInt(7));
+   }
+
+   @Test public void testBoxedCallsAgree()
+   {
+      IntMatcher matcher = isBetween(1, 3);
+
+      assertEquals(matcher.matchInt(2).failed(), matcher.match(2).failed());
+      assertEquals(matcher.matchInt(4).failed(), matcher.match(4).failed());
+   }
+
+   @Test public void testPrimitiveAssertThat()
+   {
+      Assertions.assertThat(4, isLessThan(5));
+      Assertions.assertThat(4L, isLessThan(5L));
+      Assertions.assertThat(4.0, isCloseTo(4.1, 0.2));
+      try
+      {
+         Assertions.assertThat(5, isLessThan(5), "custom message");
+         fail();
+      }
+      catch(AssertionError error)
+      {
+         assertEquals("custom message", error.getMessage());
+      }
+   }
+}
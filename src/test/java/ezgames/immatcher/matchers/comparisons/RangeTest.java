@@ -0,0 +1,61 @@
+package ezgames.immatcher.matchers.comparisons;
+
+import org.junit.Test;
+
+import static ezgames.immatcher.matchers.comparisons.Range.*;
+
+import static org.junit.Assert.*;
+
+public class RangeTest
+{
+   @Test public void testBoundsAreIncludedOnlyWhenClosed()
+   {
+      assertTrue(closed(1, 5).contains(1));
+      assertTrue(closed(1, 5).contains(5));
+      assertFalse(open(1, 5).contains(1));
+      assertFalse(open(1, 5).contains(5));
+      assertTrue(closedOpen(1, 5).contains(1));
+      assertFalse(closedOpen(1, 5).contains(5));
+      assertFalse(openClosed(1, 5).contains(1));
+      assertTrue(openClosed(1, 5).contains(5));
+   }
+
+   @Test public void testEmptyRanges()
+   {
+      assertTrue(closed(5, 1).isEmpty());
+      assertTrue(open(1, 1).isEmpty());
+      assertTrue(closedOpen(1, 1).isEmpty());
+      assertFalse(closed(1, 1).isEmpty());
+   }
+
+   @Test public void testTouchingRangesJoinUnlessBothBoundsAreOpen()
+   {
+      assertTrue(closed(1, 3).joins(closed(3, 5)));
+      assertTrue(closedOpen(1, 3).joins(closed(3, 5)));
+      assertTrue(closed(1, 3).joins(openClosed(3, 5)));
+      assertFalse(closedOpen(1, 3).joins(open(3, 5)));
+      assertFalse(closed(1, 3).joins(closed(4, 5)));
+   }
+
+   @Test public void testSpanKeepsTheWiderHighestBound()
+   {
+      assertEquals("[1, 5]", closed(1, 3).span(closed(2, 5)).toString());
+      assertEquals("[1, 5]", closed(1, 5).span(closed(2, 3)).toString());
+      assertEquals("[1, 5]", closed(1, 5).span(closedOpen(2, 5)).toString());
+      assertEquals("[1, 5]", closedOpen(1, 5).span(closed(2, 5)).toString());
+   }
+
+   @Test public void testIncludedLowestBoundSortsFirst()
+   {
+      assertTrue(closed(1, 2).compareLowestTo(open(1, 2)) < 0);
+      assertTrue(open(1, 2).compareLowestTo(closed(1, 2)) > 0);
+      assertTrue(closed(0, 2).compareLowestTo(closed(1, 2)) < 0);
+      assertEquals(0, open(1, 2).compareLowestTo(open(1, 3)));
+   }
+
+   @Test(expected = NullPointerException.class)
+   public void testNullBoundsAreRejected()
+   {
+      closed(null, 1);
+   }
+}
@@ -0,0 +1,43 @@
+package ezgames.immatcher.matchers.files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static ezgames.immatcher.Assertions.*;
+import static ezgames.immatcher.matchers.ResultMatchers.*;
+import static ezgames.immatcher.matchers.files.FilesMatchers.*;
+
+public class FileHasLineCountTest
+{
+   @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+   @Test public void testLastLineWithoutABreakCounts() throws IOException
+   {
+      assertThat(hasLineCount(2).match(write("a\nb")), passed());
+      assertThat(hasLineCount(2).match(write("a\r\nb\r\n")), passed());
+      assertThat(hasLineCount(0).match(write("")), passed());
+   }
+
+   @Test public void testWrongCountFails() throws IOException
+   {
+      assertThat(hasLineCount(3).match(write("a\nb\n")), failedWithMessage("\thad 2 lines"));
+      assertThat(hasLineCount(1).match(write("a\nb\nc\n")), failedWithMessage("\thad more than 1 lines"));
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testNegativeCountIsRejected()
+   {
+      hasLineCount(-1);
+   }
+
+   private Path write(String content) throws IOException
+   {
+      return Files.write(folder.newFile().toPath(), content.getBytes(StandardCharsets.US_ASCII));
+   }
+}
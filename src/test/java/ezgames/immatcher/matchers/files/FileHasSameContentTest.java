@@ -0,0 +1,149 @@
+package ezgames.immatcher.matchers.files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import ezgames.immatcher.Result;
+
+import static ezgames.immatcher.Assertions.*;
+import static ezgames.immatcher.matchers.ResultMatchers.*;
+import static ezgames.immatcher.matchers.files.FilesMatchers.*;
+
+import static org.junit.Assert.*;
+
+public class FileHasSameContentTest
+{
+   @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+   @Test public void testEqualFilesPass() throws IOException
+   {
+      Path actual = write("actual", "the same content");
+      Path expected = write("expected", "the same content");
+
+      assertThat(hasSameContentAs(expected).match(actual), passed());
+      assertThat(doesNotHaveSameContentAs(expected).match(actual), failed());
+   }
+
+   @Test public void testEmptyFilesPass() throws IOException
+   {
+      assertThat(hasSameContentAs(write("expected", "")).match(write("actual", "")), passed());
+   }
+
+   @Test public void testDifferenceIsShownInContext() throws IOException
+   {
+      Path actual = write("actual", "abcdefghijklmnopqrstuvwxyz0123456789");
+      Path expected = write("expected", "abcdefghijklmnopqrstuVwxyz0123456789");
+
+      Result result = hasSameContentAs(expected).match(actual);
+
+      assertThat(result, failedWithMessage("\tdiffered from " + expected + " at offset 21:\n" +
+                                           "\texpected ...\"fghijklmnopqrstuVwxyz0123456789\" <end of file>\n" +
+                                           "\tbut was  ...\"fghijklmnopqrstuvwxyz0123456789\" <end of file>"));
+   }
+
+   @Test public void testDifferentLengthsDifferAtTheEndOfTheShorter() throws IOException
+   {
+      Path actual = write("actual", "abc");
+      Path expected = write("expected", "abcd");
+
+      Result result = hasSameContentAs(expected).match(actual);
+
+      assertThat(result, failed());
+      assertTrue(result.getActual().contains("at offset 3:"));
+      assertThat(hasSameContentAs(actual).match(expected), failed());
+   }
+
+   @Test public void testMessageDoesntNeedTheFilesAfterwards() throws IOException
+   {
+      Path actual = write("actual", "abc");
+      Path expected = write("expected", "abd");
+      Result result = hasSameContentAs(expected).match(actual);
+
+      try
+      {
+         Files.write(actual, new byte[0]);
+      }
+      catch(IOException e)
+      {
+         // some systems won't change a file that's still mapped; the message
+         // is checked all the same
+      }
+
+      assertTrue(result.getActual().contains("\"abc\" <end of file>"));
+   }
+
+   @Test public void testMissingFileFails() throws IOException
+   {
+      Path expected = write("expected", "abc");
+      Path missing = folder.getRoot().toPath().resolve("missing");
+
+      Result result = hasSameContentAs(expected).match(missing);
+
+      assertThat(result, failed());
+      assertTrue(result.getActual().startsWith("\tcouldn't be read: "));
+      assertThat(hasSameContentAs(missing).match(expected), failed());
+   }
+
+   @Test public void testSmallFilesAreReadRatherThanMapped() throws IOException
+   {
+      MappedFile file = MappedFile.map(write("small", "abc"));
+
+      assertEquals(3, file.size());
+      assertFalse(file.chunk(0).isDirect());
+      assertEquals(0, MappedFile.map(write("empty", "")).chunkCount());
+   }
+
+   @Test public void testDifferenceInAFileJustOverTheReadLimitIsFound() throws IOException
+   {
+      long size = MappedFile.READ_LIMIT + 1L;
+      Path actual = sparse("actual", size);
+      Path expected = sparse("expected", size);
+      try(RandomAccessFile file = new RandomAccessFile(actual.toFile(), "rw"))
+      {
+         file.seek(MappedFile.READ_LIMIT);
+         file.write(1);
+      }
+
+      assertTrue(MappedFile.map(actual).chunk(0).isDirect());
+      assertTrue(hasSameContentAs(expected).match(actual).getActual().contains("at offset " + MappedFile.READ_LIMIT + ":"));
+   }
+
+   @Test public void testDifferenceInALaterChunkIsFound() throws IOException
+   {
+      // sparse files, so only the pages that are read take any memory
+      long size = MappedFile.CHUNK_SIZE + 100L;
+      Path actual = sparse("actual", size);
+      Path expected = sparse("expected", size);
+      try(RandomAccessFile file = new RandomAccessFile(actual.toFile(), "rw"))
+      {
+         file.seek(MappedFile.CHUNK_SIZE + 10L);
+         file.write(1);
+      }
+
+      assertEquals(MappedFile.CHUNK_SIZE + 10L,
+                   FileHasSameContent.firstDifference(MappedFile.map(actual), MappedFile.map(expected)));
+      assertThat(hasSameContentAs(expected).match(actual), failed());
+   }
+
+   private Path write(String name, String content) throws IOException
+   {
+      return Files.write(folder.getRoot().toPath().resolve(name), content.getBytes(StandardCharsets.US_ASCII));
+   }
+
+   private Path sparse(String name, long size) throws IOException
+   {
+      Path path = folder.getRoot().toPath().resolve(name);
+      try(RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw"))
+      {
+         file.setLength(size);
+      }
+      return path;
+   }
+}
@@ -0,0 +1,90 @@
+package ezgames.immatcher.matchers.iterables;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ezgames.immatcher.Result;
+
+import static ezgames.immatcher.Assertions.*;
+import static ezgames.immatcher.matchers.ResultMatchers.*;
+import static ezgames.immatcher.matchers.iterables.IterablesMatchers.*;
+
+import static org.junit.Assert.*;
+
+public class IterableHasSizeOfTest
+{
+   @Test public void testCollectionsReportTheirSize()
+   {
+      assertThat(hasSizeOf(3).match(Arrays.asList(1, 2, 3)), passed());
+      assertThat(hasSizeOf(3).match(Arrays.asList(1, 2)), failedWithMessage("\thad size of 2"));
+   }
+
+   @Test public void testUnsizedIterablesStopOnePastTheSize()
+   {
+      AtomicInteger visited = new AtomicInteger();
+
+      Result result = hasSizeOf(3).match(counting(visited));
+
+      assertThat(result, failedWithMessage("\thad size of more than 3"));
+      assertEquals(4, visited.get());
+   }
+
+   @Test public void testUnsizedIterablesOfTheRightSizePass()
+   {
+      assertThat(hasSizeOf(3).match(upTo(3)), passed());
+      assertThat(hasSizeOf(3).match(upTo(2)), failedWithMessage("\thad size of 2"));
+      assertThat(hasSizeOf(0).match(upTo(0)), passed());
+      assertThat(hasSizeOf(0).match(upTo(1)), failed());
+   }
+
+   @Test public void testDoesNotHaveSizeOf()
+   {
+      assertThat(doesNotHaveSizeOf(3).match(upTo(4)), passed());
+      assertThat(doesNotHaveSizeOf(3).match(upTo(3)), failed());
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testNegativeSizesAreRejected()
+   {
+      hasSizeOf(-1);
+   }
+
+   /** Returns an endless {@code Iterable} that counts the elements it hands out. */
+   private static Iterable<Integer> counting(AtomicInteger visited)
+   {
+      return () -> new Iterator<Integer>()
+      {
+         public boolean hasNext()
+         {
+            return true;
+         }
+
+         public Integer next()
+         {
+            return visited.incrementAndGet();
+         }
+      };
+   }
+
+   /** Returns an {@code Iterable} of {@code size} elements that isn't a {@code Collection}. */
+   private static Iterable<Integer> upTo(int size)
+   {
+      return () -> new Iterator<Integer>()
+      {
+         public boolean hasNext()
+         {
+            return next < size;
+         }
+
+         public Integer next()
+         {
+            return next++;
+         }
+
+         private int next = 0;
+      };
+   }
+}
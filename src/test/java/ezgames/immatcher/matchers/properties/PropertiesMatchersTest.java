@@ -0,0 +1,178 @@
+package ezgames.immatcher.matchers.properties;
+
+import org.junit.Test;
+
+import ezgames.immatcher.Matcher;
+import ezgames.immatcher.Result;
+
+import static ezgames.immatcher.Assertions.*;
+import static ezgames.immatcher.matchers.BasicMatchers.*;
+import static ezgames.immatcher.matchers.ResultMatchers.*;
+import static ezgames.immatcher.matchers.properties.PropertiesMatchers.*;
+
+import static org.junit.Assert.*;
+
+public class PropertiesMatchersTest
+{
+   @Test public void testGetterIsFound()
+   {
+      assertThat(hasProperty("name", isEqualTo("Ann")).match(new Person()), passed());
+      assertThat(hasProperty("name", isEqualTo("Bob")).match(new Person()), failed());
+   }
+
+   @Test public void testBooleanIsGetterIsFound()
+   {
+      assertThat(hasProperty("active", isEqualTo(true)).match(new Person()), passed());
+   }
+
+   @Test public void testNonBooleanIsMethodIsSkipped()
+   {
+      // isAge() returns an int, so the public age field is read instead
+      assertThat(hasProperty("age", isEqualTo(42)).match(new Person()), passed());
+   }
+
+   @Test public void testRecordStyleAccessorIsFound()
+   {
+      assertThat(hasProperty("nickname", isEqualTo("Annie")).match(new Person()), passed());
+   }
+
+   @Test public void testPublicFieldIsFound()
+   {
+      assertThat(hasProperty("address.zip", isEqualTo("12345")).match(new Person()), passed());
+   }
+
+   @Test public void testGetterOfAHiddenClassIsReadThroughItsPublicInterface()
+   {
+      Matcher<Object> matcher = hasProperty("id", isEqualTo("hidden"));
+
+      assertThat(matcher.match(Hidden.create()), passed());
+      assertThat(matcher.match(Hidden.create()), passed());
+   }
+
+   @Test public void testNullAtTheStartFails()
+   {
+      Result result = hasProperty("name", isEqualTo("Ann")).match(null);
+
+      assertThat(result, failedWithMessage("\twas null"));
+   }
+
+   @Test public void testNullPartWayAlongThePathFails()
+   {
+      Person person = new Person();
+      person.address = null;
+
+      Matcher<Object> matcher = hasProperty("address.zip", isEqualTo("12345"));
+
+      assertThat(matcher.match(person), failedWithMessage("\thad null at address"));
+      assertThat(matcher.notMatches(person), failed());
+   }
+
+   @Test public void testMissingPropertyFails()
+   {
+      Result result = hasProperty("address.city", isEqualTo("Paris")).match(new Person());
+
+      assertThat(result, failedWithMessage("\thad no property city on " + Address.class.getName()));
+   }
+
+   @Test public void testNullValueIsChecked()
+   {
+      Person person = new Person();
+      person.address.zip = null;
+
+      assertThat(hasProperty("address.zip", isNull()).match(person), passed());
+   }
+
+   @Test public void testPropertyOfTheWrongTypeFailsNamingTheClass()
+   {
+      Matcher<String> startsWithA = hasFeature((String text) -> text.startsWith("A"), isEqualTo(true));
+      Matcher<Object> matcher = hasProperty("age", String.class, startsWithA);
+
+      assertThat(matcher.match(new Person()), failedWithMessage("\thad property age of java.lang.Integer, which wasn't a java.lang.String"));
+      assertThat(matcher.notMatches(new Person()), failed());
+   }
+
+   @Test public void testPropertyOfTheRightTypeIsChecked()
+   {
+      Matcher<String> startsWithA = hasFeature((String text) -> text.startsWith("A"), isEqualTo(true));
+
+      assertThat(hasProperty("name", String.class, startsWithA).match(new Person()), passed());
+      assertThat(hasProperty("age", int.class, isEqualTo(42)).match(new Person()), passed());
+   }
+
+   @Test(expected = ClassCastException.class)
+   public void testClassCastExceptionsFromTheMatcherAreThrown()
+   {
+      Matcher<String> broken = hasFeature((String text) -> (Integer)(Object)text, isEqualTo(1));
+
+      hasFeature(Person::getName, broken).match(new Person());
+   }
+
+   @Test public void testMessagesNameTheFeature()
+   {
+      Result result = hasFeature("a name", Person::getName, isEqualTo("Bob")).match(new Person());
+
+      assertTrue(result.getActual().startsWith("\thad a name that:\n"));
+   }
+
+   @Test public void testWrappedResultIsReused()
+   {
+      Matcher<Person> matcher = hasFeature(Person::getName, isEqualTo("Ann"));
+
+      assertSame(matcher.match(new Person()), matcher.match(new Person()));
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testEmptyStepsAreRejected()
+   {
+      hasProperty("address..zip", isNull());
+   }
+
+   public static class Person
+   {
+      public String getName()
+      {
+         return "Ann";
+      }
+
+      public boolean isActive()
+      {
+         return true;
+      }
+
+      public int isAge()
+      {
+         return -1;
+      }
+
+      public String nickname()
+      {
+         return "Annie";
+      }
+
+      public int age = 42;
+      public Address address = new Address();
+   }
+
+   public static class Address
+   {
+      public String zip = "12345";
+   }
+
+   public interface Identified
+   {
+      String getId();
+   }
+
+   private static class Hidden implements Identified
+   {
+      static Identified create()
+      {
+         return new Hidden();
+      }
+
+      public String getId()
+      {
+         return "hidden";
+      }
+   }
+}
@@ -0,0 +1,127 @@
+package ezgames.immatcher.matchers.streams;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import ezgames.immatcher.Matcher;
+import ezgames.immatcher.Result;
+
+import static ezgames.immatcher.Assertions.*;
+import static ezgames.immatcher.matchers.BasicMatchers.*;
+import static ezgames.immatcher.matchers.ResultMatchers.*;
+import static ezgames.immatcher.matchers.streams.StreamsMatchers.*;
+
+import static org.junit.Assert.*;
+
+public class StreamsMatchersTest
+{
+   @Test public void testHasCountOfSizedStream()
+   {
+      assertThat(hasCount(3).match(Stream.of(1, 2, 3)), passed());
+      assertThat(hasCount(3).match(Stream.of(1, 2)), failedWithMessage("\thad count of 2"));
+   }
+
+   @Test public void testHasCountStopsOnePastTheCount()
+   {
+      AtomicInteger visited = new AtomicInteger();
+      Stream<Integer> infinite = Stream.iterate(0, i -> i + 1).peek(i -> visited.incrementAndGet());
+
+      Result result = hasCount(3).match(infinite);
+
+      assertThat(result, failedWithMessage("\thad count of more than 3"));
+      assertEquals(4, visited.get());
+   }
+
+   @Test public void testHasCountOfParallelStream()
+   {
+      assertThat(hasCount(5).match(unsized(5).parallel()), passed());
+      assertThat(hasCount(4).match(unsized(5).parallel()), failed());
+      assertThat(hasCount(6).match(unsized(5).parallel()), failed());
+   }
+
+   @Test public void testHasCountOfMaxValueDoesntOverflow()
+   {
+      assertThat(hasCount(Long.MAX_VALUE).match(unsized(5).parallel()), failedWithMessage("\thad count of 5"));
+      assertThat(hasCount(Long.MAX_VALUE).match(unsized(5)), failed());
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testNegativeCountIsRejected()
+   {
+      hasCount(-1);
+   }
+
+   @Test public void testDoesNotHaveCount()
+   {
+      assertThat(doesNotHaveCount(2).match(unsized(3)), passed());
+      assertThat(doesNotHaveCount(3).match(unsized(3)), failed());
+   }
+
+   @Test public void testAllMatchStopsAtFirstFailure()
+   {
+      AtomicInteger visited = new AtomicInteger();
+      Stream<String> stream = Stream.of("a", "a", "b", "a").peek(s -> visited.incrementAndGet());
+
+      Result result = StreamsMatchers.<String>allMatch(isEqualTo("a")).match(stream);
+
+      assertThat(result, failed());
+      assertEquals(3, visited.get());
+      assertThat(StreamsMatchers.<String>allMatch(isEqualTo("a")).match(Stream.of("a", "a")), passed());
+   }
+
+   @Test public void testAllMatchKeepsThePreparedExpectedMessage()
+   {
+      Matcher<Stream<? extends String>> matcher = StreamsMatchers.<String>allMatch(isEqualTo("a"));
+
+      Result result = matcher.match(Stream.of("a", "b"));
+
+      assertEquals("\thad only matching elements", result.getExpected());
+      assertThat(result, failedWithMessage("\thad an element that:\n\tequaled b"));
+      assertEquals(result.getExpected(), matcher.notMatches(Stream.of("a")).getActual());
+   }
+
+   @Test public void testAnyMatch()
+   {
+      assertThat(StreamsMatchers.<String>anyMatch(isEqualTo("b")).match(Stream.of("a", "b")), passed());
+      assertThat(StreamsMatchers.<String>anyMatch(isEqualTo("c")).match(Stream.of("a", "b")), failed());
+      assertThat(StreamsMatchers.<String>anyMatch(isEqualTo("c")).match(Stream.empty()), failed());
+   }
+
+   @Test public void testNoneMatch()
+   {
+      assertThat(StreamsMatchers.<String>noneMatch(isEqualTo("c")).match(Stream.of("a", "b")), passed());
+      assertThat(StreamsMatchers.<String>noneMatch(isEqualTo("b")).match(Stream.of("a", "b").parallel()), failed());
+   }
+
+   @Test public void testContainsInOrder()
+   {
+      assertThat(containsInOrder("a", "c").match(Stream.of("a", "b", "c")), passed());
+      assertThat(containsInOrder("c", "a").match(Stream.of("a", "b", "c")), failed());
+      assertThat(containsInOrder().match(Stream.empty()), passed());
+   }
+
+   @Test public void testContainsInOrderNamesTheMissingElement()
+   {
+      assertThat(containsInOrder("a", "c").match(Stream.of("c", "a")),
+                 failedWithMessage("\tcontained [a] in order, but not c after them"));
+      assertThat(containsInOrder("x").match(Stream.of("a")), failedWithMessage("\tdidn't contain x"));
+   }
+
+   @Test public void testContainsInOrderCopiesItsElements()
+   {
+      String[] elements = {"a", "b"};
+      Matcher<Stream<? extends String>> matcher = containsInOrder(elements);
+
+      elements[1] = "z";
+
+      assertThat(matcher.match(Stream.of("a", "b")), passed());
+   }
+
+   /** Returns a {@code Stream} of {@code size} elements that doesn't know its own size. */
+   private static Stream<Integer> unsized(int size)
+   {
+      return Stream.iterate(0, i -> i + 1).limit(size).filter(i -> true);
+   }
+}
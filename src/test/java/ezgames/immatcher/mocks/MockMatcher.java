@@ -2,6 +2,7 @@ package ezgames.immatcher.mocks;
 
 import ezgames.immatcher.Result;
 import ezgames.immatcher.Matcher;
+import ezgames.immatcher.ResultBuilder;
 
 public class MockMatcher implements Matcher<String>
 {
@@ -13,10 +14,11 @@ public class MockMatcher implements Matcher<String>
 
    public Result match(String actual)
    {
-      return new Result(this.fail, "passed", "failed");
+      return this.fail ? result.fail() : Result.PASSED;
    }
 
-   public Result notMatches(String actual) { return new Result(!this.fail, "passed", "failed"); }
+   public Result notMatches(String actual) { return this.fail ? Result.PASSED : result.fail(); }
 
    private final boolean fail;
+   private static final ResultBuilder result = ResultBuilder.withMessages("passed", "failed");
 }